@@ -0,0 +1,63 @@
+package aoc2023;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// reading the input, parsing the model and both parts of every day, on the input in src/main/resources
+// part1/part2 include the ParsedDay.copy() of the model for the days that change it while solving: days 4, 10 and 13
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DayBenchmark {
+    @Param({"01", "02", "03", "04", "05", "06", "07", "08", "09", "10", "11", "13", "14", "15", "16"})
+    private String dayNr;
+
+    private Day day;
+    private String filename;
+    private List<String> input;
+
+    @Setup
+    public void setup() throws Exception {
+        day = Days.create(Integer.parseInt(dayNr));
+        filename = Days.inputFilename(Integer.parseInt(dayNr));
+        input = day.readLines(filename);
+
+        // the parts reuse the parsed model, so they only measure the solving
+        day.prepare(input);
+    }
+
+    @Benchmark
+    public List<String> readInput() throws Exception {
+        return day.readLines(filename);
+    }
+
+    @Benchmark
+    public Object parseModel() {
+        return day instanceof ParsedDay<?> parsedDay ? parsedDay.parse(input) : input;
+    }
+
+    @Benchmark
+    public String part1() {
+        return day.doPart1(input);
+    }
+
+    @Benchmark
+    public String part2() {
+        return day.doPart2(input);
+    }
+}
@@ -0,0 +1,115 @@
+package aoc2023;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import static aoc2023.Statistics.millis;
+
+record DayTiming(String day, String part1, String part2, long parseNanos, long part1Nanos, long part2Nanos,
+                 long cpuNanos, Exception error) {
+    public long totalNanos() {
+        return parseNanos + part1Nanos + part2Nanos;
+    }
+}
+
+// runs all days concurrently in one JVM and prints a table with the timings
+// use -Dthreads=n to limit the number of days running at the same time (default: #processors)
+public class AllDays {
+    private final static ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    static DayTiming run(int dayNr) {
+        Day day = Days.create(dayNr);
+        String name = day.getClass().getSimpleName();
+        String filename = Days.inputFilename(dayNr);
+        // the thread CPU time, platform threads are used as it is not available for virtual threads
+        long cpuStart = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+        long parseNanos = 0;
+        long part1Nanos = 0;
+        long part2Nanos = 0;
+        String part1 = null;
+        String part2 = null;
+
+        try {
+            long start = System.nanoTime();
+            List<String> input = day.readLines(filename);
+            day.prepare(input);
+            parseNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            part1 = day.solvePart(1, input.size(), () -> day.doPart1(input));
+            part1Nanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            part2 = day.solvePart(2, input.size(), () -> day.doPart2(input));
+            part2Nanos = System.nanoTime() - start;
+
+            return new DayTiming(name, part1, part2, parseNanos, part1Nanos, part2Nanos, THREAD_MX_BEAN.getCurrentThreadCpuTime() - cpuStart, null);
+        } catch (Exception e) {
+            return new DayTiming(name, part1, part2, parseNanos, part1Nanos, part2Nanos, THREAD_MX_BEAN.getCurrentThreadCpuTime() - cpuStart, e);
+        }
+    }
+
+    static List<DayTiming> runAll(Collection<Integer> dayNrs, int nrThreads) throws Exception {
+        ThreadFactory threadFactory = Thread.ofPlatform().name("day-runner-", 1).factory();
+
+        ExecutorService executor = Executors.newFixedThreadPool(nrThreads, threadFactory);
+        try {
+            List<Future<DayTiming>> futures = dayNrs.stream()
+                    .map(dayNr -> executor.submit(() -> run(dayNr)))
+                    .toList();
+
+            List<DayTiming> timings = new ArrayList<>();
+            for (Future<DayTiming> future : futures) {
+                timings.add(future.get());
+            }
+
+            return timings;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    static void printTable(List<DayTiming> timings) {
+        System.out.printf("%-6s %10s %10s %10s %10s %10s  %-16s %-16s%n", "day", "parse(ms)", "part1(ms)", "part2(ms)", "total(ms)", "cpu(ms)", "part 1", "part 2");
+
+        timings.stream()
+                .sorted(Comparator.comparingLong(DayTiming::totalNanos).reversed())
+                .forEach(timing -> System.out.printf("%-6s %10.3f %10.3f %10.3f %10.3f %10.3f  %-16s %-16s%n",
+                        timing.day(),
+                        millis(timing.parseNanos()),
+                        millis(timing.part1Nanos()),
+                        millis(timing.part2Nanos()),
+                        millis(timing.totalNanos()),
+                        millis(timing.cpuNanos()),
+                        timing.error() == null ? timing.part1() : "error",
+                        timing.error() == null ? timing.part2() : String.valueOf(timing.error())));
+    }
+
+    static public void main(String[] args) throws Exception {
+        int nrThreads = Integer.getInteger("threads", Runtime.getRuntime().availableProcessors());
+        Set<Integer> dayNrs = Days.dayNrs();
+
+        System.out.printf("running %d days on %d threads%n%n", dayNrs.size(), nrThreads);
+
+        long start = System.nanoTime();
+        List<DayTiming> timings = runAll(dayNrs, nrThreads);
+        long wallNanos = System.nanoTime() - start;
+
+        printTable(timings);
+
+        long cpuNanos = timings.stream()
+                .mapToLong(DayTiming::cpuNanos)
+                .sum();
+        System.out.printf("%nwall time (ms): %.3f%n", millis(wallNanos));
+        System.out.printf("cpu time (ms): %.3f%n", millis(cpuNanos));
+    }
+}
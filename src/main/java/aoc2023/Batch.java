@@ -0,0 +1,141 @@
+package aoc2023;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static aoc2023.Statistics.millis;
+
+record BatchResult(Path file, long nrBytes, String part1, String part2, long nanos, Exception error) {
+}
+
+record BatchSummary(int nrInputs, int nrErrors, long nrBytes, long wallNanos, LatencyHistogram latencies) {
+    public double inputsPerSecond() {
+        return nrInputs / (wallNanos / 1e9);
+    }
+
+    public double megabytesPerSecond() {
+        return nrBytes / (1024.0 * 1024.0) / (wallNanos / 1e9);
+    }
+}
+
+// solves many inputs of one day in parallel (e.g. one per tenant) in one JVM
+// the inputs are all files in a directory, or the files matching a glob in their name, e.g. 'inputs/day10-*.txt'
+// use -Dthreads=n for the number of inputs solved at the same time (default: #processors)
+// use -Ddeadline.ms=n to stop a part of an input that takes too long, so it does not tie up a thread (see SolveBudget)
+public class Batch {
+    static List<Path> inputs(String directoryOrGlob) throws IOException {
+        Path path = Path.of(directoryOrGlob);
+
+        List<Path> files = new ArrayList<>();
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> stream = Files.list(path)) {
+                stream.filter(Files::isRegularFile).forEach(files::add);
+            }
+        } else {
+            Path directory = path.toAbsolutePath().getParent();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, path.getFileName().toString())) {
+                stream.forEach(file -> {
+                    if (Files.isRegularFile(file)) {
+                        files.add(file);
+                    }
+                });
+            }
+        }
+        files.sort(null);
+
+        return files;
+    }
+
+    static BatchResult solve(int dayNr, Path file) {
+        long start = System.nanoTime();
+        long nrBytes = 0;
+        String part1 = null;
+        String part2 = null;
+
+        try {
+            nrBytes = Files.size(file);
+
+            // a slow input reports its progress, -Ddeadline.ms stops it
+            Day day = Days.create(dayNr).withBudget(SolveBudget.fromSystemProperties((nrIterations, elapsedNanos) ->
+                    System.out.printf("%s: still solving, %d iterations after %.0f ms%n", file.getFileName(), nrIterations, millis(elapsedNanos))));
+            List<String> input = day.readLines(file);
+            day.prepare(input);
+            part1 = day.solvePart(1, input.size(), () -> day.doPart1(input));
+            part2 = day.solvePart(2, input.size(), () -> day.doPart2(input));
+
+            return new BatchResult(file, nrBytes, part1, part2, System.nanoTime() - start, null);
+        } catch (Exception e) {
+            return new BatchResult(file, nrBytes, part1, part2, System.nanoTime() - start, e);
+        }
+    }
+
+    // solves all files on the executor, the results are passed to the consumer as soon as a file is solved
+    static BatchSummary solveAll(int dayNr, List<Path> files, Executor executor, Consumer<BatchResult> consumer) throws Exception {
+        CompletionService<BatchResult> completionService = new ExecutorCompletionService<>(executor);
+        LatencyHistogram latencies = new LatencyHistogram();
+        long nrBytes = 0;
+        int nrErrors = 0;
+
+        long start = System.nanoTime();
+        files.forEach(file -> completionService.submit(() -> solve(dayNr, file)));
+
+        for (int i = 0; i < files.size(); i++) {
+            BatchResult result = completionService.take().get();
+            latencies.record(result.nanos());
+            nrBytes += result.nrBytes();
+            if (result.error() != null) {
+                nrErrors++;
+            }
+
+            consumer.accept(result);
+        }
+
+        return new BatchSummary(files.size(), nrErrors, nrBytes, System.nanoTime() - start, latencies);
+    }
+
+    private static void print(BatchResult result) {
+        if (result.error() == null) {
+            System.out.printf("%s: part 1: %s, part 2: %s (%.3f ms)%n", result.file().getFileName(), result.part1(), result.part2(), millis(result.nanos()));
+        } else {
+            System.out.printf("%s: error: %s (%.3f ms)%n", result.file().getFileName(), result.error(), millis(result.nanos()));
+        }
+    }
+
+    static public void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            System.out.println("usage: Batch <day> <directory or glob>");
+            return;
+        }
+
+        int dayNr = Integer.parseInt(args[0]);
+        List<Path> files = inputs(args[1]);
+        int nrThreads = Integer.getInteger("threads", Runtime.getRuntime().availableProcessors());
+
+        System.out.printf("solving %d inputs of day %d on %d threads%n%n", files.size(), dayNr, nrThreads);
+
+        ThreadFactory threadFactory = Thread.ofPlatform().name("batch-", 1).factory();
+
+        ExecutorService executor = Executors.newFixedThreadPool(nrThreads, threadFactory);
+        try {
+            BatchSummary summary = solveAll(dayNr, files, executor, Batch::print);
+
+            System.out.printf("%n#inputs: %d, #errors: %d, wall time (ms): %.3f%n", summary.nrInputs(), summary.nrErrors(), millis(summary.wallNanos()));
+            System.out.printf("throughput: %.1f inputs/sec, %.3f MB/sec%n", summary.inputsPerSecond(), summary.megabytesPerSecond());
+            System.out.println("latency: " + summary.latencies());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
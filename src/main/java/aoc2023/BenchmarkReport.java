@@ -0,0 +1,265 @@
+package aoc2023;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import static aoc2023.Statistics.millis;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+// a row of the benchmark report: the measurements of a part (see PartResult) with the input and the JVM
+record BenchmarkRow(String timestamp, String day, int part, String strategy, String inputHash, String result, double parseMillis,
+                    int nrIterations, int nrWarmupIterations, double minMillis, double medianMillis, double p90Millis,
+                    double maxMillis, long allocatedBytes, long gcCount, long gcMillis, long peakHeapBytes,
+                    String javaVersion, String jvmFlags) {
+    final static List<String> HEADER = List.of("timestamp", "day", "part", "strategy", "input_hash", "result", "parse_ms",
+            "iterations", "warmup_iterations", "min_ms", "median_ms", "p90_ms", "max_ms", "allocated_bytes",
+            "gc_count", "gc_ms", "peak_heap_bytes", "java_version", "jvm_flags");
+
+    public static BenchmarkRow of(List<String> columns) {
+        if (columns.size() != HEADER.size()) {
+            throw new IllegalArgumentException("expected %d columns, got %d: %s".formatted(HEADER.size(), columns.size(), columns));
+        }
+
+        return new BenchmarkRow(columns.get(0), columns.get(1), Integer.parseInt(columns.get(2)), columns.get(3),
+                columns.get(4), columns.get(5), Double.parseDouble(columns.get(6)), Integer.parseInt(columns.get(7)),
+                Integer.parseInt(columns.get(8)), Double.parseDouble(columns.get(9)), Double.parseDouble(columns.get(10)),
+                Double.parseDouble(columns.get(11)), Double.parseDouble(columns.get(12)), Long.parseLong(columns.get(13)),
+                Long.parseLong(columns.get(14)), Long.parseLong(columns.get(15)), Long.parseLong(columns.get(16)),
+                columns.get(17), columns.get(18));
+    }
+
+    public List<String> columns() {
+        return List.of(timestamp, day, String.valueOf(part), strategy, inputHash, result, decimal(parseMillis),
+                String.valueOf(nrIterations), String.valueOf(nrWarmupIterations), decimal(minMillis),
+                decimal(medianMillis), decimal(p90Millis), decimal(maxMillis),
+                String.valueOf(allocatedBytes), String.valueOf(gcCount), String.valueOf(gcMillis),
+                String.valueOf(peakHeapBytes), javaVersion, jvmFlags);
+    }
+
+    // always with a '.', whatever the locale
+    private static String decimal(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    // a day and part is compared with the same day, part and strategy of the baseline
+    public String key() {
+        return day + " part " + part + " " + strategy;
+    }
+}
+
+// the comparison of a part with the baseline, a ratio above 1 is slower (or more allocation) than the baseline
+record BenchmarkComparison(String key, double baselineMillis, double millis, double timeRatio,
+                           long baselineAllocatedBytes, long allocatedBytes, double allocationRatio, String status) {
+    final static String OK = "ok";
+    final static String REGRESSION = "REGRESSION";
+    final static String DIFFERENT_RESULT = "DIFFERENT RESULT";
+    final static String DIFFERENT_INPUT = "different input";
+    final static String NO_BASELINE = "no baseline";
+
+    public boolean failed() {
+        return status.equals(REGRESSION) || status.equals(DIFFERENT_RESULT);
+    }
+}
+
+// a CSV file with a row per part per run, appended by Day when -Dreport=<file> is set
+// use -Dmeasure=true as well (see Measurement), a single run is too noisy to compare
+// usage: BenchmarkReport compare <baseline file> <report file>, fails (exit code 1) on a regression:
+//   the median time or the allocation of a part is more than -Dreport.threshold (default 0.10, so 10%) above the baseline
+//   or the result of a part differs from the baseline
+// the last row of a part in a file is used, parts with another input (hash) than the baseline are not compared
+// a part is only compared with the same strategy (-Dstrategy) in the baseline
+final class BenchmarkReport {
+    private final static double DEFAULT_THRESHOLD = 0.10;
+
+    private final Path file;
+
+    BenchmarkReport(Path file) {
+        this.file = file;
+    }
+
+    static Optional<BenchmarkReport> fromSystemProperties() {
+        String file = System.getProperty("report");
+        if (file == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new BenchmarkReport(Path.of(file)));
+    }
+
+    // cached parts are left out, the time of a cache hit is not comparable with the time of solving
+    public void append(DayResult dayResult, String strategy, String inputHash) {
+        String timestamp = Instant.now().toString();
+        String javaVersion = Runtime.version().toString();
+        String jvmFlags = String.join(" ", ManagementFactory.getRuntimeMXBean().getInputArguments());
+
+        List<BenchmarkRow> rows = dayResult.parts().stream()
+                .filter(part -> !part.cached())
+                .map(part -> new BenchmarkRow(timestamp, dayResult.day(), part.part(), strategy, inputHash == null ? "" : inputHash,
+                        part.result(), millis(dayResult.parseNanos()), part.statistics().nrIterations(),
+                        part.nrWarmupIterations(), millis(part.statistics().min()), millis(part.statistics().median()),
+                        millis(part.statistics().p90()), millis(part.statistics().max()), part.allocatedBytes(),
+                        part.gcCount(), part.gcMillis(), part.peakHeapBytes(), javaVersion, jvmFlags))
+                .toList();
+
+        if (!rows.isEmpty()) {
+            append(rows);
+        }
+    }
+
+    // the rows of a day are written at once, the header only to a new file
+    void append(List<BenchmarkRow> rows) {
+        List<String> lines = new ArrayList<>();
+        try {
+            if (!Files.exists(file) || Files.size(file) == 0) {
+                lines.add(csvLine(BenchmarkRow.HEADER));
+            }
+            rows.forEach(row -> lines.add(csvLine(row.columns())));
+
+            Files.write(file, lines, CREATE, APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public List<BenchmarkRow> read() throws IOException {
+        return Files.readAllLines(file).stream()
+                .skip(1)
+                .filter(line -> !line.isBlank())
+                .map(BenchmarkReport::csvColumns)
+                .map(BenchmarkRow::of)
+                .toList();
+    }
+
+    // the last row per day, part and strategy
+    private static Map<String, BenchmarkRow> lastRows(List<BenchmarkRow> rows) {
+        Map<String, BenchmarkRow> lastRows = new LinkedHashMap<>();
+        rows.forEach(row -> lastRows.put(row.key(), row));
+
+        return lastRows;
+    }
+
+    static List<BenchmarkComparison> compare(List<BenchmarkRow> baseline, List<BenchmarkRow> run, double threshold) {
+        Map<String, BenchmarkRow> baselineRows = lastRows(baseline);
+
+        return lastRows(run).values().stream()
+                .map(row -> compare(baselineRows.get(row.key()), row, threshold))
+                .toList();
+    }
+
+    private static BenchmarkComparison compare(BenchmarkRow baseline, BenchmarkRow row, double threshold) {
+        if (baseline == null) {
+            return new BenchmarkComparison(row.key(), Double.NaN, row.medianMillis(), Double.NaN, 0, row.allocatedBytes(), Double.NaN, BenchmarkComparison.NO_BASELINE);
+        }
+
+        double timeRatio = ratio(row.medianMillis(), baseline.medianMillis());
+        double allocationRatio = ratio(row.allocatedBytes(), baseline.allocatedBytes());
+
+        String status;
+        if (!row.inputHash().equals(baseline.inputHash())) {
+            status = BenchmarkComparison.DIFFERENT_INPUT;
+        } else if (!row.result().equals(baseline.result())) {
+            status = BenchmarkComparison.DIFFERENT_RESULT;
+        } else if (timeRatio > 1 + threshold || allocationRatio > 1 + threshold) {
+            status = BenchmarkComparison.REGRESSION;
+        } else {
+            status = BenchmarkComparison.OK;
+        }
+
+        return new BenchmarkComparison(row.key(), baseline.medianMillis(), row.medianMillis(), timeRatio,
+                baseline.allocatedBytes(), row.allocatedBytes(), allocationRatio, status);
+    }
+
+    // nothing compared to nothing is no change
+    private static double ratio(double value, double baseline) {
+        if (baseline == 0) {
+            return value == 0 ? 1 : Double.POSITIVE_INFINITY;
+        }
+
+        return value / baseline;
+    }
+
+    static void print(Collection<BenchmarkComparison> comparisons) {
+        System.out.printf("%-28s %14s %14s %8s %14s %14s %8s  %s%n", "part", "baseline(ms)", "median(ms)", "ratio",
+                "baseline(B)", "allocated(B)", "ratio", "status");
+        comparisons.forEach(comparison -> System.out.printf("%-28s %14.3f %14.3f %8.2f %14d %14d %8.2f  %s%n",
+                comparison.key(),
+                comparison.baselineMillis(),
+                comparison.millis(),
+                comparison.timeRatio(),
+                comparison.baselineAllocatedBytes(),
+                comparison.allocatedBytes(),
+                comparison.allocationRatio(),
+                comparison.status()));
+    }
+
+    // quoted when needed (the JVM flags can contain commas), quotes are doubled
+    static String csvLine(List<String> columns) {
+        return String.join(",", columns.stream()
+                .map(column -> column.contains(",") || column.contains("\"") ? "\"" + column.replace("\"", "\"\"") + "\"" : column)
+                .toList());
+    }
+
+    static List<String> csvColumns(String line) {
+        List<String> columns = new ArrayList<>();
+        StringBuilder column = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    column.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    column.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                columns.add(column.toString());
+                column.setLength(0);
+            } else {
+                column.append(c);
+            }
+        }
+        columns.add(column.toString());
+
+        return columns;
+    }
+
+    static public void main(String[] args) throws IOException {
+        if (args.length != 3 || !args[0].equals("compare")) {
+            System.out.println("usage: BenchmarkReport compare <baseline file> <report file>");
+            return;
+        }
+
+        double threshold = Double.parseDouble(System.getProperty("report.threshold", String.valueOf(DEFAULT_THRESHOLD)));
+        List<BenchmarkRow> baseline = new BenchmarkReport(Path.of(args[1])).read();
+        List<BenchmarkRow> run = new BenchmarkReport(Path.of(args[2])).read();
+
+        List<BenchmarkComparison> comparisons = compare(baseline, run, threshold);
+        print(comparisons);
+
+        long nrFailed = comparisons.stream()
+                .filter(BenchmarkComparison::failed)
+                .count();
+        System.out.printf("%n%d of %d parts failed (threshold %.0f%%)%n", nrFailed, comparisons.size(), threshold * 100);
+        if (nrFailed > 0) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package aoc2023;
+
+// scanning kernels for rows of bytes (grid rows), all ranges are [from, to)
+// use -Dsimd=true for the SIMD version (Vector API), this needs --add-modules jdk.incubator.vector
+// and the VectorByteKernels of src/simd/java (mvn -Psimd), without them the scalar version is used
+interface ByteKernels {
+    ByteKernels INSTANCE = select();
+
+    // index of the first byte that equals the value, or -1
+    int indexOf(byte[] bytes, int from, int to, byte value);
+
+    boolean equals(byte[] a, int aFrom, byte[] b, int bFrom, int length);
+
+    // matches[i] |= bytes[from + i] == value, so OR-ing all rows of a grid gives the columns that contain the value
+    void orMatches(byte[] bytes, int from, byte value, boolean[] matches);
+
+    int count(byte[] bytes, int from, int to, byte value);
+
+    private static ByteKernels select() {
+        if (!Boolean.getBoolean("simd")) {
+            return new ScalarByteKernels();
+        }
+
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            System.out.println("simd: module jdk.incubator.vector not available, using the scalar kernels");
+            return new ScalarByteKernels();
+        }
+
+        // loaded by name, so the class is only linked when the module is there
+        try {
+            ByteKernels kernels = (ByteKernels) Class.forName("aoc2023.VectorByteKernels").getDeclaredConstructor().newInstance();
+            System.out.println("simd: using the Vector API kernels");
+
+            return kernels;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            System.out.println("simd: " + e + ", using the scalar kernels");
+            return new ScalarByteKernels();
+        }
+    }
+}
@@ -1,56 +1,347 @@
 package aoc2023;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.Duration;
-import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static java.nio.file.Files.lines;
 
 public abstract class Day {
+    // the strategy of the days that keep a clear implementation next to an optimized one, to check it against
+    final static String REFERENCE_STRATEGY = "reference";
+    final static String DEFAULT_STRATEGY = "default";
+
+    private String strategy;
+    private SolveBudget budget;
+
     abstract String doPart1(List<String> input);
 
     abstract String doPart2(List<String> input);
 
-    final public void main(String filename) throws IOException, URISyntaxException {
-        List<String> input = readInput(filename);
+    // parses the input before solving the parts, see ParsedDay
+    void prepare(List<String> input) {
+    }
+
+    // days can override these to work on the raw bytes, by default the lines are used
+    String doPart1(MappedInput input) {
+        return doPart1(input.lines());
+    }
+
+    String doPart2(MappedInput input) {
+        return doPart2(input.lines());
+    }
+
+    // the names of the ways to solve the parts, the first one is the default
+    // days with an optimized solver keep the clear one as REFERENCE_STRATEGY, see DifferentialTest
+    List<String> strategies() {
+        return List.of(DEFAULT_STRATEGY);
+    }
+
+    // use -Dstrategy=<name> to choose the strategy, days without a strategy with that name use their default
+    final String strategy() {
+        if (strategy == null) {
+            String name = System.getProperty("strategy");
+            strategy = name != null && strategies().contains(name) ? name : strategies().get(0);
+        }
+
+        return strategy;
+    }
+
+    final Day withStrategy(String name) {
+        if (!strategies().contains(name)) {
+            throw new IllegalArgumentException("unknown strategy for %s: %s (strategies: %s)".formatted(getClass().getSimpleName(), name, strategies()));
+        }
+        strategy = name;
+
+        return this;
+    }
 
-        // part 1
-        LocalTime start = LocalTime.now();
-        String result = doPart1(input);
-        LocalTime finish = LocalTime.now();
+    // the input is a resource on the classpath
+    final public DayResult main(String filename) throws IOException, URISyntaxException {
+        return main(inputPath(filename));
+    }
+
+    final public DayResult main(Path path) throws IOException {
+        DayResult dayResult;
+        if (strategies().size() > 1) {
+            System.out.println("strategy: " + strategy());
+        }
 
-        System.out.println("\npart 1: " + result);
-        System.out.println("duration (ms): " + Duration.between(start, finish).toMillis());
-        System.out.println();
+        // use -Dmapped=true to read the input memory mapped
+        if (Boolean.getBoolean("mapped")) {
+            MappedInput input = readMappedInput(path);
+            long start = System.nanoTime();
+            prepare(input.lines());
+            long parseNanos = System.nanoTime() - start;
+            System.out.printf("parse duration (ms): %.3f%n", Statistics.millis(parseNanos));
+            String inputHash = inputHash(input);
+
+            dayResult = dayResult(parseNanos, inputHash, runParts(inputHash,
+                    () -> solvePart(1, input.nrLines(), () -> doPart1(input)),
+                    () -> solvePart(2, input.nrLines(), () -> doPart2(input))
+            ));
+        } else if (this instanceof SnapshotDay<?> && Snapshots.fromSystemProperties().isPresent()) {
+            dayResult = solveWithSnapshot(path, Snapshots.fromSystemProperties().get());
+        } else if (this instanceof StreamingDay streamingDay) {
+            System.out.println("streaming file: " + path.getFileName());
+            String inputHash = inputHash(path);
+
+            dayResult = dayResult(0, inputHash, runParts(inputHash,
+                    () -> solvePart(1, -1, () -> solveStreaming(path, streamingDay::doPart1)),
+                    () -> solvePart(2, -1, () -> solveStreaming(path, streamingDay::doPart2))
+            ));
+        } else {
+            List<String> input = readInput(path);
+
+            dayResult = solve(input);
+        }
+
+        return dayResult;
+    }
 
-        // part 2
-        start = LocalTime.now();
-        result = doPart2(input);
-        finish = LocalTime.now();
+    // parses the input and solves both parts, with the measurements (see Measurement for the options)
+    public DayResult solve(List<String> input) {
+        long start = System.nanoTime();
+        prepare(input);
+        long parseNanos = System.nanoTime() - start;
+        System.out.printf("parse duration (ms): %.3f%n", Statistics.millis(parseNanos));
+        String inputHash = inputHash(input);
 
-        System.out.println("\npart 2: " + result);
-        System.out.println("duration (ms): " + Duration.between(start, finish).toMillis());
+        return dayResult(parseNanos, inputHash, runParts(inputHash,
+                () -> solvePart(1, input.size(), () -> doPart1(input)),
+                () -> solvePart(2, input.size(), () -> doPart2(input))
+        ));
+    }
+
+    // days with a parsed model solve from the snapshot of the input, see ParsedDay
+    DayResult solveWithSnapshot(Path path, Snapshots snapshots) throws IOException {
+        return solve(readInput(path));
+    }
+
+    // the result is added to the benchmark report when it is enabled, see BenchmarkReport
+    final DayResult dayResult(long parseNanos, String inputHash, List<PartResult> partResults) {
+        DayResult dayResult = new DayResult(getClass().getSimpleName(), parseNanos, partResults);
+        BenchmarkReport.fromSystemProperties().ifPresent(report -> report.append(dayResult, strategy(), inputHash));
+
+        return dayResult;
+    }
+
+    // the deadline, cancellation and progress callback for solving the parts, see SolveBudget
+    final Day withBudget(SolveBudget budget) {
+        this.budget = budget;
+
+        return this;
+    }
+
+    final SolveBudget budget() {
+        if (budget == null) {
+            budget = SolveBudget.fromSystemProperties();
+        }
+
+        return budget;
+    }
+
+    // solves a part within the budget and records it as a JFR event
+    String solvePart(int part, int nrLines, Supplier<String> solver) {
+        DayEvents.Part event = new DayEvents.Part();
+        event.begin();
+
+        String result = budget().run(solver);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.day = getClass().getSimpleName();
+            event.part = part;
+            event.nrLines = nrLines;
+            event.result = result;
+            event.commit();
+        }
+
+        return result;
+    }
+
+    // use -Dconcurrent=true to run part 1 and part 2 at the same time, each on its own thread
+    // this is safe because the input is not changed and the days with a mutable model solve on a copy (see ParsedDay)
+    List<PartResult> runParts(String inputHash, Supplier<String> part1, Supplier<String> part2) {
+        if (!Boolean.getBoolean("concurrent")) {
+            PartResult partResult1 = runPart(1, inputHash, part1);
+            partResult1.print();
+            PartResult partResult2 = runPart(2, inputHash, part2);
+            partResult2.print();
+
+            return List.of(partResult1, partResult2);
+        }
+
+        ThreadFactory threadFactory = Thread.ofPlatform().name("part-", 1).factory();
+        ExecutorService executor = Executors.newFixedThreadPool(2, threadFactory);
+        try {
+            long start = System.nanoTime();
+            Future<PartResult> future1 = executor.submit(() -> runPart(1, inputHash, part1));
+            Future<PartResult> future2 = executor.submit(() -> runPart(2, inputHash, part2));
+            List<PartResult> partResults = List.of(future1.get(), future2.get());
+            long wallNanos = System.nanoTime() - start;
+
+            // print when both are done, so the output of the parts is not mixed
+            partResults.forEach(PartResult::print);
+            System.out.printf("%nparts run concurrently, wall time (ms): %.3f%n", Statistics.millis(wallNanos));
+            System.out.println("the JVM-wide GC and heap numbers of each part include the other part");
+
+            return partResults;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // the input hash is null when the result cache and the benchmark report are not enabled
+    private PartResult runPart(int part, String inputHash, Supplier<String> solver) {
+        Optional<ResultCache> cache = ResultCache.fromSystemProperties();
+        if (inputHash == null || cache.isEmpty()) {
+            return runPart(part, solver);
+        }
+
+        String key = ResultCache.key(getClass().getSimpleName(), part, inputHash);
+        Optional<String> cachedResult = cache.get().get(key);
+        System.out.printf("%nresult cache part %d: %s%n", part, cachedResult.isPresent() ? "hit" : "miss");
+        if (cachedResult.isPresent()) {
+            return runPart(part, cachedResult::get).asCached();
+        }
+
+        PartResult partResult = runPart(part, solver);
+        cache.get().put(key, partResult.result());
+
+        return partResult;
+    }
+
+    private PartResult runPart(int part, Supplier<String> solver) {
+        return Measurement.of(part, solver);
+    }
+
+    // the hash of the input for the result cache and the benchmark report, null when both are not enabled
+    private static String inputHash(List<String> input) {
+        return needsInputHash() ? ResultCache.hash(input.stream()) : null;
+    }
+
+    // hashed from the mapped bytes, the same hash as of the lines
+    private static String inputHash(MappedInput input) {
+        return needsInputHash() ? ResultCache.hash(input.bytes()) : null;
+    }
+
+    private static String inputHash(Path path) throws IOException {
+        if (!needsInputHash()) {
+            return null;
+        }
+
+        try (Stream<String> input = lines(path)) {
+            return ResultCache.hash(input);
+        }
+    }
+
+    private static boolean needsInputHash() {
+        return ResultCache.fromSystemProperties().isPresent() || BenchmarkReport.fromSystemProperties().isPresent();
+    }
+
+    private String solveStreaming(Path path, Function<Stream<String>, String> solver) {
+        try (Stream<String> input = lines(path)) {
+            return solver.apply(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     public List<String> readInput(String filename) throws IOException, URISyntaxException {
-        System.out.println("reading file: " + filename);
+        return readInput(inputPath(filename));
+    }
 
-        // get the input lines
+    public List<String> readInput(Path path) throws IOException {
+        System.out.println("reading file: " + path.getFileName());
+
+        List<String> lines = readLines(path);
+        System.out.printf("read file: %s (#lines: %d)%n", path.getFileName(), lines.size());
+
+        return lines;
+    }
+
+    // same as readInput but without the logging, so it can be used for benchmarking
+    List<String> readLines(String filename) throws IOException, URISyntaxException {
+        return readLines(inputPath(filename));
+    }
+
+    List<String> readLines(Path path) throws IOException {
+        DayEvents.InputRead event = new DayEvents.InputRead();
+        event.begin();
+
+        List<String> lines;
+        try (Stream<String> input = lines(path)) {
+            lines = input.toList();
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.file = path.toString();
+            event.nrLines = lines.size();
+            event.nrBytes = Files.size(path);
+            event.commit();
+        }
+
+        return lines;
+    }
+
+    public MappedInput readMappedInput(String filename) throws IOException, URISyntaxException {
+        return readMappedInput(inputPath(filename));
+    }
+
+    public MappedInput readMappedInput(Path path) throws IOException {
+        System.out.println("mapping file: " + path.getFileName());
+
+        DayEvents.InputRead event = new DayEvents.InputRead();
+        event.begin();
+
+        MappedInput input = MappedInput.of(path);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.file = path.toString();
+            event.nrLines = input.nrLines();
+            event.nrBytes = input.nrBytes();
+            event.commit();
+        }
+
+        System.out.printf("mapped file: %s (#lines: %d, #bytes: %d)%n", path.getFileName(), input.nrLines(), input.nrBytes());
+
+        return input;
+    }
+
+    Path inputPath(String filename) throws URISyntaxException {
         URL url = getClass().getClassLoader().getResource(filename);
         if (url == null) {
             throw new RuntimeException("cannot read input file: " + filename);
         }
 
-        try (Stream<String> input = lines(Paths.get(url.toURI()))) {
-            List<String> lines = input.toList();
-            System.out.printf("read file: %s (#lines: %d)%n", filename, lines.size());
-
-            return lines;
-        }
+        return Paths.get(url.toURI());
     }
 }
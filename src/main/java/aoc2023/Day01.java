@@ -5,10 +5,15 @@ import org.apache.commons.lang3.StringUtils;
 import java.util.List;
 import java.util.stream.Stream;
 
-public class Day01 extends Day {
+public class Day01 extends Day implements StreamingDay {
     @Override
     public String doPart1(List<String> inputRaw) {
-        Long result = inputRaw.stream()
+        return doPart1(inputRaw.stream());
+    }
+
+    @Override
+    public String doPart1(Stream<String> inputRaw) {
+        Long result = inputRaw
                 .map(this::getFirstAndLastDigit)
                 .map(Long::valueOf)
                 .reduce(0L, Long::sum);
@@ -41,7 +46,12 @@ public class Day01 extends Day {
 
     @Override
     public String doPart2(List<String> inputRaw) {
-        Long result = inputRaw.stream()
+        return doPart2(inputRaw.stream());
+    }
+
+    @Override
+    public String doPart2(Stream<String> inputRaw) {
+        Long result = inputRaw
                 .map(this::getFirstAndLastDigitAlsoVerbally)
                 .map(Long::valueOf)
                 .reduce(0L, Long::sum);
@@ -130,23 +140,85 @@ public class Day01 extends Day {
         throw new RuntimeException("no digit found");
     }
 
-    // @formatter:off
-    static public void main(String[] args) throws Exception {
-        // get our class
-        final Class<?> clazz = new Object() {
-        }.getClass().getEnclosingClass();
+    // part 1 and 2 directly on the mapped bytes, without creating a String per line
+    private final static String[] DIGIT_WORDS = {"one", "two", "three", "four", "five", "six", "seven", "eight", "nine"};
+
+    // part 1 only looks for the digits
+    @Override
+    public String doPart1(MappedInput input) {
+        long result = 0;
+
+        for (int line = 0; line < input.nrLines(); line++) {
+            int first = 0;
+            while (first < input.lineLength(line) && !isDigit(input.byteAt(line, first))) {
+                first++;
+            }
+            if (first == input.lineLength(line)) {
+                throw new IllegalArgumentException("no digit found");
+            }
+            int last = input.lineLength(line) - 1;
+            while (!isDigit(input.byteAt(line, last))) {
+                last--;
+            }
+
+            result += 10L * (input.byteAt(line, first) - '0') + (input.byteAt(line, last) - '0');
+        }
+
+        return String.valueOf(result);
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    @Override
+    public String doPart2(MappedInput input) {
+        long result = 0;
 
-        // construct filename with input
-        final String filename = clazz.getSimpleName().toLowerCase().replace("day0", "day") + ".txt";
+        for (int line = 0; line < input.nrLines(); line++) {
+            result += 10L * digitAt(input, line, firstIndex(input, line)) + digitAt(input, line, lastIndex(input, line));
+        }
 
-        // get the classname
-        final String fullClassName = clazz.getCanonicalName();
+        return String.valueOf(result);
+    }
 
-        // create instance
-        Day day = (Day) Class.forName(fullClassName).getDeclaredConstructor().newInstance();
+    private int firstIndex(MappedInput input, int line) {
+        for (int i = 0; i < input.lineLength(line); i++) {
+            if (digitAt(input, line, i) >= 0) {
+                return i;
+            }
+        }
 
-        // invoke "main" from the base Day class
-        day.main(filename);
+        throw new IllegalArgumentException("no digit found");
+    }
+
+    private int lastIndex(MappedInput input, int line) {
+        for (int i = input.lineLength(line) - 1; i >= 0; i--) {
+            if (digitAt(input, line, i) >= 0) {
+                return i;
+            }
+        }
+
+        throw new IllegalArgumentException("no digit found");
+    }
+
+    // the digit (1-9, also spelled out) at the position, or -1 when there is no digit
+    private int digitAt(MappedInput input, int line, int index) {
+        byte b = input.byteAt(line, index);
+        if (b >= '1' && b <= '9') {
+            return b - '0';
+        }
+
+        for (int digit = 1; digit <= DIGIT_WORDS.length; digit++) {
+            if (input.regionMatches(line, index, DIGIT_WORDS[digit - 1])) {
+                return digit;
+            }
+        }
+
+        return -1;
+    }
+
+    static public void main(String[] args) throws Exception {
+        new Day01().main("day1.txt");
     }
-    // @formatter:on
 }
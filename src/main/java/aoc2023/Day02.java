@@ -4,26 +4,37 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
-public class Day02 extends Day {
-
-
+public class Day02 extends ParsedDay<List<Game>> implements StreamingDay {
     @Override
-    public String doPart1(List<String> inputRaw) {
-        List<Game> games = inputRaw.stream()
+    public List<Game> parse(List<String> inputRaw) {
+        return inputRaw.stream()
                 .map(Game::of)
                 .toList();
+    }
+
+    @Override
+    public String solvePart1(List<Game> games) {
+        return part1(games.stream());
+    }
 
+    @Override
+    public String doPart1(Stream<String> inputRaw) {
+        return part1(inputRaw.map(Game::of));
+    }
+
+    private String part1(Stream<Game> games) {
         Bag bag = new Bag(Arrays.asList(
                 new Cube(Color.RED, 12),
                 new Cube(Color.GREEN, 13),
                 new Cube(Color.BLUE, 14)
         ));
 
-        long result = games.stream()
+        long result = games
                 .filter(bag::gamePossible)
                 .map(Game::id)
                 .reduce(0, Integer::sum);
@@ -32,12 +43,17 @@ public class Day02 extends Day {
     }
 
     @Override
-    public String doPart2(List<String> inputRaw) {
-        List<Game> games = inputRaw.stream()
-                .map(Game::of)
-                .toList();
+    public String solvePart2(List<Game> games) {
+        return part2(games.stream());
+    }
 
-        long result = games.stream()
+    @Override
+    public String doPart2(Stream<String> inputRaw) {
+        return part2(inputRaw.map(Game::of));
+    }
+
+    private String part2(Stream<Game> games) {
+        long result = games
                 .map(Game::bagWithFewestCubes)
                 .map(Bag::power)
                 .reduce(0L, Long::sum);
@@ -45,57 +61,50 @@ public class Day02 extends Day {
         return String.valueOf(result);
     }
 
-    // @formatter:off
     static public void main(String[] args) throws Exception {
-        // get our class
-        final Class<?> clazz = new Object() {
-        }.getClass().getEnclosingClass();
-
-        // construct filename with input
-        final String filename = clazz.getSimpleName().toLowerCase().replace("day0", "day") + ".txt";
-
-        // get the classname
-        final String fullClassName = clazz.getCanonicalName();
-
-        // create instance
-        Day day = (Day) Class.forName(fullClassName).getDeclaredConstructor().newInstance();
-
-        // invoke "main" from the base Day class
-        day.main(filename);
+        new Day02().main("day2.txt");
     }
-    // @formatter:on
 }
 
 enum Color {
     RED, GREEN, BLUE;
 
-    static Color of(String s) {
-        return valueOf(s.toUpperCase());
+    // the colors have different first letters
+    static Color of(char firstLetter) {
+        return switch (firstLetter) {
+            case 'r' -> RED;
+            case 'g' -> GREEN;
+            case 'b' -> BLUE;
+            default -> throw new IllegalArgumentException("unknown color: " + firstLetter);
+        };
     }
 }
 
 record Cube(Color color, int nr) {
-    static Cube of(String s) {
-        String[] parts = s.trim().split("\\s+");
-        return new Cube(Color.of(parts[1]), Integer.parseInt(parts[0]));
-    }
 }
 
 record Grab(List<Cube> cubes) {
-    static Grab of(String s) {
-        return new Grab(Arrays.stream(s.trim().split(","))
-                .map(Cube::of)
-                .collect(toList()));
-    }
 }
 
 record Game(int id, List<Grab> grabs) {
+    // Game 1: 3 blue, 4 red; 1 red, 2 green, 6 blue; 2 green
     static Game of(String line) {
-        String[] parts = line.trim().split(":");
-        int id = Integer.parseInt(parts[0].split("\\s+")[1].trim());
-        List<Grab> grabs = Arrays.stream(parts[1].split(";"))
-                .map(Grab::of)
-                .collect(toList());
+        Tokenizer tokenizer = Tokenizer.of(line).skipToken();
+        int id = tokenizer.nextInt();
+        tokenizer.skip(':');
+
+        List<Grab> grabs = new ArrayList<>();
+        do {
+            List<Cube> cubes = new ArrayList<>();
+            do {
+                int nr = tokenizer.nextInt();
+                Color color = Color.of(tokenizer.peek());
+                tokenizer.skipToken();
+                cubes.add(new Cube(color, nr));
+            } while (tokenizer.skipIf(','));
+            grabs.add(new Grab(cubes));
+        } while (tokenizer.skipIf(';'));
+
         return new Game(id, grabs);
     }
     public Bag bagWithFewestCubes() {
@@ -1,146 +1,130 @@
 package aoc2023;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.IntStream;
 
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toMap;
-
-public class Day03 extends Day {
+public class Day03 extends ParsedDay<Engine> {
     @Override
-    public String doPart1(List<String> inputRaw) {
-        Engine engine = Engine.of(inputRaw);
+    public Engine parse(List<String> inputRaw) {
+        return Engine.of(inputRaw);
+    }
 
+    @Override
+    public String solvePart1(Engine engine) {
         long result = engine.sumPartNrs();
 
         return String.valueOf(result);
     }
 
     @Override
-    public String doPart2(List<String> inputRaw) {
-        Engine engine = Engine.of(inputRaw);
-
+    public String solvePart2(Engine engine) {
         long result = engine.sumGearRatios();
 
         return String.valueOf(result);
     }
 
-    // @formatter:off
     static public void main(String[] args) throws Exception {
-        // get our class
-        final Class<?> clazz = new Object() {
-        }.getClass().getEnclosingClass();
-
-        // construct filename with input
-        final String filename = clazz.getSimpleName().toLowerCase().replace("day0", "day") + ".txt";
-
-        // get the classname
-        final String fullClassName = clazz.getCanonicalName();
-
-        // create instance
-        Day day = (Day) Class.forName(fullClassName).getDeclaredConstructor().newInstance();
-
-        // invoke "main" from the base Day class
-        day.main(filename);
+        new Day03().main("day3.txt");
     }
-    // @formatter:on
 }
 
 enum Type {
     SYMBOL, POTENTIAL_PARTNR
 }
 
-record Point(int x, int y) {
-    List<Point> getNeighbours() {
-        return List.of(
-                new Point(x, y - 1),
-                new Point(x + 1, y - 1),
-                new Point(x + 1, y),
-                new Point(x + 1, y + 1),
-                new Point(x, y + 1),
-                new Point(x - 1, y + 1),
-                new Point(x - 1, y),
-                new Point(x - 1, y - 1)
-        );
-    }
-}
-
 record EnginePart(Type type, String value) {
 }
 
-record Engine(Map<Point, EnginePart> parts) {
-    private boolean isPartNr(Point point, EnginePart enginePart) {
-        List<Point> neightbours = getNeightboursOfPartNr(point, Integer.parseInt(enginePart.value()));
+// the parts by their (start) point, packed (see PackedPoint)
+record Engine(Grid grid, LongObjectHashMap<EnginePart> parts) {
+    private final static byte EMPTY = '.';
+
+    private static boolean isDigit(byte c) {
+        return c >= '0' && c <= '9';
+    }
 
-        return neightbours.stream()
-                .filter(parts::containsKey)
-                .map(parts::get)
-                .anyMatch(enginePart1 -> enginePart1.type() == Type.SYMBOL);
+    private static boolean isSymbol(byte c) {
+        return c != EMPTY && !isDigit(c);
     }
 
-    private List<Point> getNeightboursOfPartNr(Point point, int partnr) {
-        return IntStream.of(point.x(), point.x() + String.valueOf(partnr).length() - 1)
-                .mapToObj(position -> new Point(position, point.y()))
-                .flatMap(points -> points.getNeighbours().stream())
-                .distinct()
-                .toList();
+    private boolean isPartNr(long point, EnginePart enginePart) {
+        int pointX = PackedPoint.x(point);
+        int pointY = PackedPoint.y(point);
+
+        // look for a symbol in the box around the number
+        for (int y = pointY - 1; y <= pointY + 1; y++) {
+            for (int x = pointX - 1; x <= pointX + enginePart.value().length(); x++) {
+                if (isSymbol(grid.getOrDefault(x, y, EMPTY))) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
     }
 
     public Long sumGearRatios() {
-        Map<Point, EnginePart> partsMap = partNrs();
-
-        return parts.entrySet().stream()
-                .filter(pointEnginePartEntry -> pointEnginePartEntry.getValue().value().equals("*"))
-                .map(Map.Entry::getKey)
-                .map(point -> adjacentPartNrs(point, partsMap))
-                .filter(partNrPoints -> partNrPoints.size() == 2)
-                .map(partNrPoints -> Long.parseLong(parts.get(partNrPoints.get(0)).value()) * Long.parseLong(parts.get(partNrPoints.get(1)).value()))
+        return Arrays.stream(parts.keys())
+                .filter(point -> parts.get(point).value().equals("*"))
+                .mapToObj(this::adjacentPartNrs)
+                .filter(partNrPoints -> partNrPoints.length == 2)
+                .map(partNrPoints -> Long.parseLong(parts.get(partNrPoints[0]).value()) * Long.parseLong(parts.get(partNrPoints[1]).value()))
                 .reduce(0L, Long::sum);
     }
 
-    private List<Point> adjacentPartNrs(Point gearPoint, Map<Point, EnginePart> partsMap) {
-        return partsMap.entrySet().stream()
-                .filter(pointEnginePartEntry -> getNeightboursOfPartNr(pointEnginePartEntry.getKey(), Integer.parseInt(pointEnginePartEntry.getValue().value())).contains(gearPoint))
-                .map(Map.Entry::getKey)
-                .collect(toList());
+    // the (start) points of the numbers next to the gear, these are part numbers as the gear is a symbol
+    private long[] adjacentPartNrs(long gearPoint) {
+        LongHashSet partNrPoints = new LongHashSet(8);
+
+        grid.forEachNeighbour(PackedPoint.x(gearPoint), PackedPoint.y(gearPoint), (x, y, value) -> {
+            if (isDigit(value)) {
+                int startX = x;
+                while (startX > 0 && isDigit(grid.getUnchecked(startX - 1, y))) {
+                    startX--;
+                }
+
+                partNrPoints.add(PackedPoint.of(startX, y));
+            }
+        });
+
+        return partNrPoints.toArray();
     }
 
     static Engine of(List<String> lines) {
-        Map<Point, EnginePart> engineParts = new HashMap<>();
+        Grid grid = Grid.of(lines);
+        LongObjectHashMap<EnginePart> engineParts = new LongObjectHashMap<>();
 
-        for (int y = 0; y < lines.size(); y++) {
-            String line = lines.get(y);
-            for (int x = 0; x < line.length(); x++) {
-                if (line.charAt(x) == '.') {
+        for (int y = 0; y < grid.height(); y++) {
+            for (int x = 0; x < grid.width(); x++) {
+                byte c = grid.getUnchecked(x, y);
+                if (c == EMPTY) {
                     continue;
                 }
 
-                if (Character.isDigit(line.charAt(x))) {
-                    String numberString = line.substring(x).splitWithDelimiters("[0-9]+", 0)[1];
-                    engineParts.put(new Point(x, y), new EnginePart(Type.POTENTIAL_PARTNR, numberString));
-                    x += numberString.length() - 1;
+                if (isDigit(c)) {
+                    int endX = x;
+                    while (endX < grid.width() && isDigit(grid.getUnchecked(endX, y))) {
+                        endX++;
+                    }
+                    String numberString = grid.row(y).subSequence(x, endX).toString();
+                    engineParts.put(PackedPoint.of(x, y), new EnginePart(Type.POTENTIAL_PARTNR, numberString));
+                    x = endX - 1;
                 } else {
                     // symbol
-                    engineParts.put(new Point(x, y), new EnginePart(Type.SYMBOL, String.valueOf(line.charAt(x))));
+                    engineParts.put(PackedPoint.of(x, y), new EnginePart(Type.SYMBOL, String.valueOf((char) c)));
                 }
             }
         }
-        return new Engine(engineParts);
+        return new Engine(grid, engineParts);
     }
 
     public long sumPartNrs() {
-        return partNrs().values().stream()
+        return Arrays.stream(parts.keys())
+                .filter(point -> parts.get(point).type() == Type.POTENTIAL_PARTNR)
+                .filter(point -> isPartNr(point, parts.get(point)))
+                .mapToObj(parts::get)
                 .map(EnginePart::value)
-                .map(Long::parseLong)
-                .reduce(0L, Long::sum);
-    }
-
-    private Map<Point, EnginePart> partNrs() {
-        return parts.entrySet().stream()
-                .filter(pointEnginePartEntry -> pointEnginePartEntry.getValue().type() == Type.POTENTIAL_PARTNR)
-                .filter(pointEnginePartEntry -> isPartNr(pointEnginePartEntry.getKey(), pointEnginePartEntry.getValue()))
-                .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
+                .mapToLong(Long::parseLong)
+                .sum();
     }
 }
@@ -1,62 +1,93 @@
 package aoc2023;
 
-import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
-public class Day04 extends Day {
+public class Day04 extends ParsedDay<ScratchCards> implements StreamingDay {
     @Override
-    public String doPart1(List<String> inputRaw) {
-        ScratchCards cards = ScratchCards.of(inputRaw);
+    public ScratchCards parse(List<String> inputRaw) {
+        return ScratchCards.of(inputRaw);
+    }
+
+    @Override
+    ScratchCards copy(ScratchCards cards) {
+        return cards.copy();
+    }
 
+    @Override
+    public String solvePart1(ScratchCards cards) {
         long result = cards.sumPoints();
 
         return String.valueOf(result);
     }
 
     @Override
-    public String doPart2(List<String> inputRaw) {
-        ScratchCards cards = ScratchCards.of(inputRaw);
-
+    public String solvePart2(ScratchCards cards) {
         cards.winCards();
         long result = cards.sumCards();
 
         return String.valueOf(result);
     }
 
-    // @formatter:off
-    static public void main(String[] args) throws Exception {
-        // get our class
-        final Class<?> clazz = new Object() {
-        }.getClass().getEnclosingClass();
+    @Override
+    public String doPart1(Stream<String> inputRaw) {
+        long result = inputRaw
+                .map(Card::of)
+                .map(Card::points)
+                .reduce(0L, Long::sum);
 
-        // construct filename with input
-        final String filename = clazz.getSimpleName().toLowerCase().replace("day0", "day") + ".txt";
+        return String.valueOf(result);
+    }
 
-        // get the classname
-        final String fullClassName = clazz.getCanonicalName();
+    @Override
+    public String doPart2(Stream<String> inputRaw) {
+        // a card only wins copies of the next cards, so only keep the copies won for the next cards
+        // in a ring buffer: copiesWon[(next + i) % copiesWon.length] is for the i-th card after this one
+        long[] copiesWon = new long[16];
+        int next = 0;
+        long result = 0;
+
+        for (Iterator<String> lines = inputRaw.iterator(); lines.hasNext(); ) {
+            Card card = Card.of(lines.next());
+
+            long nrCopies = 1 + copiesWon[next];
+            result += nrCopies;
+            // the slot of this card is free now, it is for the card furthest ahead
+            copiesWon[next] = 0;
+            next = (next + 1) % copiesWon.length;
+
+            int nrWins = (int) card.countWinningNumbers();
+            if (nrWins > copiesWon.length) {
+                long[] larger = new long[2 * nrWins];
+                for (int i = 0; i < copiesWon.length; i++) {
+                    larger[i] = copiesWon[(next + i) % copiesWon.length];
+                }
+                copiesWon = larger;
+                next = 0;
+            }
+            for (int i = 0; i < nrWins; i++) {
+                copiesWon[(next + i) % copiesWon.length] += nrCopies;
+            }
+        }
 
-        // create instance
-        Day day = (Day) Class.forName(fullClassName).getDeclaredConstructor().newInstance();
+        return String.valueOf(result);
+    }
 
-        // invoke "main" from the base Day class
-        day.main(filename);
+    static public void main(String[] args) throws Exception {
+        new Day04().main("day4.txt");
     }
-    // @formatter:on
 }
 
-record Card(int cardNr, List<Integer> winningNumbers, List<Integer> myNumbers) {
+record Card(int cardNr, int[] winningNumbers, int[] myNumbers) {
+    // Card 1: 41 48 83 86 17 | 83 86  6 31 17  9 48 53
     static Card of(String line) {
-        String[] cardParts = line.split(":");
-        int cardNr = Integer.parseInt(cardParts[0].split("\\s+")[1]);
-        String[] listNumbers = cardParts[1].split("\\|");
-        List<Integer> winningNumbers = Arrays.stream(listNumbers[0].trim().split("\\s+"))
-                .map(Integer::parseInt)
-                .toList();
-        List<Integer> myNumbers = Arrays.stream(listNumbers[1].trim().split("\\s+"))
-                .map(Integer::parseInt)
-                .toList();
+        Tokenizer tokenizer = Tokenizer.of(line).skipToken();
+        int cardNr = tokenizer.nextInt();
+        int[] winningNumbers = tokenizer.skip(':').nextInts();
+        int[] myNumbers = tokenizer.skip('|').nextInts();
 
         return new Card(cardNr, winningNumbers, myNumbers);
     }
@@ -72,9 +103,17 @@ record Card(int cardNr, List<Integer> winningNumbers, List<Integer> myNumbers) {
     }
 
     public long countWinningNumbers() {
-        return myNumbers.stream()
-                .filter(winningNumbers::contains)
-                .count();
+        long count = 0;
+        for (int myNumber : myNumbers) {
+            for (int winningNumber : winningNumbers) {
+                if (myNumber == winningNumber) {
+                    count++;
+                    break;
+                }
+            }
+        }
+
+        return count;
     }
 }
 
@@ -90,6 +129,11 @@ record ScratchCards(List<Card> cards, Map<Integer, Long> cardOccurrences) {
         return new ScratchCards(cards, cardOccurrences);
     }
 
+    // winning cards changes the card occurrences
+    public ScratchCards copy() {
+        return new ScratchCards(cards, new HashMap<>(cardOccurrences));
+    }
+
     public long sumPoints() {
         return cards.stream()
                 .map(Card::points)
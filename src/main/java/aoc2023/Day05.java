@@ -4,6 +4,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
@@ -35,11 +36,10 @@ record CategoryMapper(Category categorySource, Category categoryDestination, Lis
     }
 }
 
-record Almanac(List<Long> seeds, List<CategoryMapper> categoryMappers) {
+record Almanac(long[] seeds, List<CategoryMapper> categoryMappers) {
     public static Almanac of(List<String> lines) {
-        List<Long> seeds = Arrays.stream(lines.get(0).split(":")[1].trim().split("\\s+"))
-                .map(Long::valueOf)
-                .toList();
+        Tokenizer tokenizer = new Tokenizer();
+        long[] seeds = tokenizer.reset(lines.get(0)).skipPast(':').nextLongs();
 
         List<CategoryMapper> categoryMappers = new ArrayList<>();
 
@@ -49,20 +49,55 @@ record Almanac(List<Long> seeds, List<CategoryMapper> categoryMappers) {
         lines.stream()
                 .skip(2)
                 .filter(StringUtils::isNotBlank)
-                .forEach(line -> addLineToCategoryMappers(categoryMappers, currentMapperAtomicReference, line));
+                .forEach(line -> addLineToCategoryMappers(categoryMappers, currentMapperAtomicReference, tokenizer.reset(line)));
         categoryMappers.add(currentMapperAtomicReference.get());
 
         return new Almanac(seeds, categoryMappers);
     }
 
+    public void writeSnapshot(SnapshotWriter out) {
+        out.writeLongs(seeds)
+                .writeInt(categoryMappers.size());
+        categoryMappers.forEach(categoryMapper -> {
+            out.writeInt(categoryMapper.categorySource().ordinal())
+                    .writeInt(categoryMapper.categoryDestination().ordinal())
+                    .writeInt(categoryMapper.rangeMappers().size());
+            categoryMapper.rangeMappers().forEach(rangeMapper -> out
+                    .writeLong(rangeMapper.sourceRangeStart())
+                    .writeLong(rangeMapper.destinationRangeStart())
+                    .writeLong(rangeMapper.rangeLength()));
+        });
+    }
+
+    public static Almanac readSnapshot(SnapshotReader in) {
+        long[] seeds = in.readLongs();
+
+        // a category mapper has at least the source, destination and number of range mappers
+        int nrCategoryMappers = in.readCount(3 * Integer.BYTES);
+        List<CategoryMapper> categoryMappers = new ArrayList<>(nrCategoryMappers);
+        for (int i = 0; i < nrCategoryMappers; i++) {
+            Category source = Category.values()[in.readInt()];
+            Category destination = Category.values()[in.readInt()];
+
+            int nrRangeMappers = in.readCount(3 * Long.BYTES);
+            List<RangeMapper> rangeMappers = new ArrayList<>(nrRangeMappers);
+            for (int j = 0; j < nrRangeMappers; j++) {
+                rangeMappers.add(new RangeMapper(in.readLong(), in.readLong(), in.readLong()));
+            }
+            categoryMappers.add(new CategoryMapper(source, destination, rangeMappers));
+        }
+
+        return new Almanac(seeds, categoryMappers);
+    }
+
     public long getLowestLocation() {
-        return seeds.stream()
+        return Arrays.stream(seeds)
                 .map(this::getLocationForSeed)
-                .min(Long::compareTo)
+                .min()
                 .orElseThrow(() -> new IllegalStateException("no minimum location found"));
     }
 
-    private Long getLocationForSeed(long seed) {
+    private long getLocationForSeed(long seed) {
         long destination = seed;
         CategoryMapper categoryMapper = findMapperForSourceCategory(Category.SEED);
 
@@ -81,22 +116,27 @@ record Almanac(List<Long> seeds, List<CategoryMapper> categoryMappers) {
                 .orElseThrow(() -> new IllegalStateException("no mapper found"));
     }
 
-    private static void addLineToCategoryMappers(List<CategoryMapper> categoryMappers, AtomicReference<CategoryMapper> currentMapper, String line) {
-        if (line.contains("map")) {
-            String[] split = line.split("\\s+")[0].split("-");
-            currentMapper.set(new CategoryMapper(Category.valueOf(split[0].toUpperCase()), Category.valueOf(split[2].toUpperCase()), new ArrayList<>()));
-            categoryMappers.add(currentMapper.get());
+    private static void addLineToCategoryMappers(List<CategoryMapper> categoryMappers, AtomicReference<CategoryMapper> currentMapper, Tokenizer line) {
+        if (line.hasNextNumber()) {
+            // 50 98 2
+            long destinationRangeStart = line.nextLong();
+            long sourceRangeStart = line.nextLong();
+            long rangeLength = line.nextLong();
+            currentMapper.get().rangeMappers().add(new RangeMapper(sourceRangeStart, destinationRangeStart, rangeLength));
         } else {
-            List<Long> rangeParams = Arrays.stream(line.split("\\s+")).map(Long::valueOf).toList();
-            currentMapper.get().rangeMappers().add(new RangeMapper(rangeParams.get(1), rangeParams.get(0), rangeParams.get(2)));
+            // seed-to-soil map:
+            Category source = Category.valueOf(line.nextToken().toUpperCase());
+            Category destination = Category.valueOf(line.skip('-').skipToken().skip('-').nextToken().toUpperCase());
+            currentMapper.set(new CategoryMapper(source, destination, new ArrayList<>()));
+            categoryMappers.add(currentMapper.get());
         }
     }
 
     public long getLowestLocationForSeedRanges() {
         List<SeedRange> seedRanges = new ArrayList<>();
 
-        for (int i = 0; i < seeds.size(); i += 2) {
-            seedRanges.add(new SeedRange(seeds.get(i), seeds.get(i + 1)));
+        for (int i = 0; i < seeds.length; i += 2) {
+            seedRanges.add(new SeedRange(seeds[i], seeds[i + 1]));
         }
 
         CategoryMapper categoryMapper = findMapperForSourceCategory(Category.SEED);
@@ -142,7 +182,7 @@ record Almanac(List<Long> seeds, List<CategoryMapper> categoryMappers) {
             // find next rangemapper AFTER our seedrange start
             Optional<RangeMapper> optionalNextRangeMapper = categoryMapper.rangeMappers().stream()
                     .filter(rangeMapper -> rangeMapper.sourceRangeStart() > seedRange.start())
-                    .min((rm1, rm2) -> Math.toIntExact(rm1.sourceRangeStart() - rm2.sourceRangeStart()));
+                    .min(Comparator.comparingLong(RangeMapper::sourceRangeStart));
 
             if (optionalNextRangeMapper.isEmpty()) {
                 return Stream.of(seedRange);
@@ -165,41 +205,37 @@ record SeedRange(long start, long length) {
 
 }
 
-public class Day05 extends Day {
+public class Day05 extends ParsedDay<Almanac> implements SnapshotDay<Almanac> {
+    @Override
+    public Almanac parse(List<String> inputRaw) {
+        return Almanac.of(inputRaw);
+    }
+
     @Override
-    public String doPart1(List<String> inputRaw) {
-        Almanac almanac = Almanac.of(inputRaw);
+    public void writeSnapshot(Almanac almanac, SnapshotWriter out) {
+        almanac.writeSnapshot(out);
+    }
+
+    @Override
+    public Almanac readSnapshot(SnapshotReader in) {
+        return Almanac.readSnapshot(in);
+    }
+
+    @Override
+    public String solvePart1(Almanac almanac) {
         long locationForSeed = almanac.getLowestLocation();
 
         return String.valueOf(locationForSeed);
     }
 
     @Override
-    public String doPart2(List<String> inputRaw) {
-        Almanac almanac = Almanac.of(inputRaw);
-
+    public String solvePart2(Almanac almanac) {
         long locationForSeed = almanac.getLowestLocationForSeedRanges();
 
         return String.valueOf(locationForSeed);
     }
 
-    // @formatter:off
     static public void main(String[] args) throws Exception {
-        // get our class
-        final Class<?> clazz = new Object() {
-        }.getClass().getEnclosingClass();
-
-        // construct filename with input
-        final String filename = clazz.getSimpleName().toLowerCase().replace("day0", "day") + ".txt";
-
-        // get the classname
-        final String fullClassName = clazz.getCanonicalName();
-
-        // create instance
-        Day day = (Day) Class.forName(fullClassName).getDeclaredConstructor().newInstance();
-
-        // invoke "main" from the base Day class
-        day.main(filename);
+        new Day05().main("day5.txt");
     }
-    // @formatter:on
 }
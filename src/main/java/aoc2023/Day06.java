@@ -1,23 +1,29 @@
 package aoc2023;
 
-import java.util.Arrays;
 import java.util.List;
+import java.util.function.ToLongFunction;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
 
 record Race(long time, long distance) {
     public static Race of(List<String> lines) {
-        long time = Long.parseLong(lines.get(0).split(":")[1].replaceAll("\\s+", ""));
-        long distance = Long.parseLong(lines.get(1).split(":")[1].replaceAll("\\s+", ""));
+        // the spaces between the numbers are bad kerning
+        long time = Tokenizer.of(lines.get(0)).skipPast(':').nextDigits();
+        long distance = Tokenizer.of(lines.get(1)).skipPast(':').nextDigits();
 
         return new Race(time, distance);
     }
 
     public long nrWins() {
-        int nrWins = 0;
+        long nrWins = 0;
 
-        for (int i = 0; i <= time; i++) {
+        for (long i = 0; i <= time; i++) {
+            // cheap iterations: only check the budget every 64K holds
+            if ((i & 0xFFFF) == 0xFFFF) {
+                SolveBudget.checkpoint(0x10000);
+            }
             if ((time - i) * i > distance) {
                 nrWins++;
             }
@@ -25,37 +31,68 @@ record Race(long time, long distance) {
 
         return nrWins;
     }
+
+    // the wins are the holds between the roots of (time - hold) * hold = distance
+    // the roots are computed with doubles, the integer bounds are corrected with exact arithmetic
+    public long nrWinsSolved() {
+        double discriminant = (double) time * time - 4.0 * distance;
+        if (discriminant < 0) {
+            return 0;
+        }
+
+        long low = (long) Math.floor((time - Math.sqrt(discriminant)) / 2);
+        while (low > 0 && (time - (low - 1)) * (low - 1) > distance) {
+            low--;
+        }
+        while (low <= time / 2 && (time - low) * low <= distance) {
+            low++;
+        }
+        if (low > time / 2) {
+            return 0;
+        }
+
+        // symmetric: the last win is time - low
+        return time - 2 * low + 1;
+    }
 }
 
 record Races(List<Race> races) {
     public static Races of(List<String> lines) {
-        List<Long> times = Arrays.stream(lines.get(0).split(":")[1].trim().split("\\s+"))
-                .map(Long::valueOf)
-                .toList();
-        List<Long> distances = Arrays.stream(lines.get(1).split(":")[1].trim().split("\\s+"))
-                .map(Long::valueOf)
-                .toList();
+        long[] times = Tokenizer.of(lines.get(0)).skipPast(':').nextLongs();
+        long[] distances = Tokenizer.of(lines.get(1)).skipPast(':').nextLongs();
 
         return new Races(
-                IntStream.range(0, times.size())
-                        .mapToObj(i -> new Race(times.get(i), distances.get(i)))
+                IntStream.range(0, times.length)
+                        .mapToObj(i -> new Race(times[i], distances[i]))
                         .collect(toList())
         );
     }
 
-    public long winsMultiplied() {
+    public long winsMultiplied(ToLongFunction<Race> nrWins) {
         return races.stream()
-                .map(Race::nrWins)
+                .map(nrWins::applyAsLong)
                 .reduce(1L, (l1, l2) -> l1 * l2);
     }
 }
 
-public class Day06 extends Day {
+public class Day06 extends Day implements StreamingDay {
+    private final static String SOLVED_STRATEGY = "solved";
+
+    // the reference counts every hold
+    @Override
+    List<String> strategies() {
+        return List.of(SOLVED_STRATEGY, REFERENCE_STRATEGY);
+    }
+
+    private ToLongFunction<Race> nrWins() {
+        return strategy().equals(REFERENCE_STRATEGY) ? Race::nrWins : Race::nrWinsSolved;
+    }
+
     @Override
     public String doPart1(List<String> inputRaw) {
         Races races = Races.of(inputRaw);
 
-        long result = races.winsMultiplied();
+        long result = races.winsMultiplied(nrWins());
 
         return String.valueOf(result);
     }
@@ -64,28 +101,23 @@ public class Day06 extends Day {
     public String doPart2(List<String> inputRaw) {
         Race race = Race.of(inputRaw);
 
-        long result = race.nrWins();
+        long result = nrWins().applyAsLong(race);
 
         return String.valueOf(result);
     }
 
-    // @formatter:off
-    static public void main(String[] args) throws Exception {
-        // get our class
-        final Class<?> clazz = new Object() {
-        }.getClass().getEnclosingClass();
-
-        // construct filename with input
-        final String filename = clazz.getSimpleName().toLowerCase().replace("day0", "day") + ".txt";
-
-        // get the classname
-        final String fullClassName = clazz.getCanonicalName();
+    // only the first 2 lines (times and distances) are needed
+    @Override
+    public String doPart1(Stream<String> inputRaw) {
+        return doPart1(inputRaw.limit(2).toList());
+    }
 
-        // create instance
-        Day day = (Day) Class.forName(fullClassName).getDeclaredConstructor().newInstance();
+    @Override
+    public String doPart2(Stream<String> inputRaw) {
+        return doPart2(inputRaw.limit(2).toList());
+    }
 
-        // invoke "main" from the base Day class
-        day.main(filename);
+    static public void main(String[] args) throws Exception {
+        new Day06().main("day6.txt");
     }
-    // @formatter:on
 }
@@ -1,5 +1,6 @@
 package aoc2023;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -85,6 +86,27 @@ record CamelCard(List<HandWithBid> handWithBids) {
                 .collect(toList()));
     }
 
+    public void writeSnapshot(SnapshotWriter out) {
+        out.writeInt(handWithBids.size());
+        handWithBids.forEach(handWithBid -> out
+                .writeString(handWithBid.hand().cards())
+                .writeInt(handWithBid.hand().type().ordinal())
+                .writeLong(handWithBid.bid()));
+    }
+
+    public static CamelCard readSnapshot(SnapshotReader in) {
+        // the cards (at least their length), the type and the bid
+        int nrHands = in.readCount(Integer.BYTES + Integer.BYTES + Long.BYTES);
+        List<HandWithBid> handWithBids = new ArrayList<>(nrHands);
+        for (int i = 0; i < nrHands; i++) {
+            String cards = in.readString();
+            HandType type = HandType.values()[in.readInt()];
+            handWithBids.add(new HandWithBid(new Hand(type, cards), in.readLong()));
+        }
+
+        return new CamelCard(handWithBids);
+    }
+
     public CamelCard useJokers() {
         return new CamelCard(handWithBids.stream()
                 .map(handWithBid -> new HandWithBid(Hand.ofWithJokers(handWithBid.hand().cards()), handWithBid.bid()))
@@ -118,19 +140,31 @@ record CamelCard(List<HandWithBid> handWithBids) {
     }
 }
 
-public class Day07 extends Day {
+public class Day07 extends ParsedDay<CamelCard> implements SnapshotDay<CamelCard> {
+    @Override
+    public CamelCard parse(List<String> inputRaw) {
+        return CamelCard.of(inputRaw);
+    }
+
     @Override
-    public String doPart1(List<String> inputRaw) {
-        CamelCard camelCard = CamelCard.of(inputRaw);
+    public void writeSnapshot(CamelCard camelCard, SnapshotWriter out) {
+        camelCard.writeSnapshot(out);
+    }
 
+    @Override
+    public CamelCard readSnapshot(SnapshotReader in) {
+        return CamelCard.readSnapshot(in);
+    }
+
+    @Override
+    public String solvePart1(CamelCard camelCard) {
         long result = camelCard.totalWinnings();
 
         return String.valueOf(result);
     }
 
     @Override
-    public String doPart2(List<String> inputRaw) {
-        CamelCard camelCard = CamelCard.of(inputRaw);
+    public String solvePart2(CamelCard camelCard) {
         camelCard = camelCard.useJokers();
 
         long result = camelCard.totalWinningsWithJokers();
@@ -138,23 +172,7 @@ public class Day07 extends Day {
         return String.valueOf(result);
     }
 
-    // @formatter:off
     static public void main(String[] args) throws Exception {
-        // get our class
-        final Class<?> clazz = new Object() {
-        }.getClass().getEnclosingClass();
-
-        // construct filename with input
-        final String filename = clazz.getSimpleName().toLowerCase().replace("day0", "day") + ".txt";
-
-        // get the classname
-        final String fullClassName = clazz.getCanonicalName();
-
-        // create instance
-        Day day = (Day) Class.forName(fullClassName).getDeclaredConstructor().newInstance();
-
-        // invoke "main" from the base Day class
-        day.main(filename);
+        new Day07().main("day7.txt");
     }
-    // @formatter:on
 }
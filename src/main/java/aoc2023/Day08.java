@@ -1,22 +1,25 @@
 package aoc2023;
 
+import java.util.ArrayList;
 import java.util.List;
 
 record Node(String name, String left, String right) {
+    // AAA = (BBB, CCC)
     public static Node of(String line) {
-        line = line
-                .replaceAll("=", "")
-                .replaceAll(",", "")
-                .replaceAll("\\(", "")
-                .replaceAll("\\)", "")
-        ;
+        Tokenizer tokenizer = Tokenizer.of(line);
+        String name = tokenizer.nextToken();
+        String left = tokenizer.skip('=').skip('(').nextToken();
+        String right = tokenizer.skip(',').nextToken();
+        tokenizer.skip(')');
 
-        String[] split = line.trim().split("\\s+");
-        return new Node(split[0], split[1], split[2]);
+        return new Node(name, left, right);
     }
 }
 
 record Network(String instructions, List<Node> nodes) {
+    // cheap steps: only check the budget every 1K steps, so the clock is not read on every step
+    private final static int STEPS_PER_CHECKPOINT = 0x400;
+
     public static Network of(List<String> lines) {
         String instructions = lines.get(0).trim();
         List<Node> nodes = lines.stream()
@@ -27,18 +30,58 @@ record Network(String instructions, List<Node> nodes) {
         return new Network(instructions, nodes);
     }
 
+    public void writeSnapshot(SnapshotWriter out) {
+        out.writeString(instructions)
+                .writeInt(nodes.size());
+        nodes.forEach(node -> out
+                .writeString(node.name())
+                .writeString(node.left())
+                .writeString(node.right()));
+    }
+
+    public static Network readSnapshot(SnapshotReader in) {
+        String instructions = in.readString();
+
+        // three names, at least their lengths
+        int nrNodes = in.readCount(3 * Integer.BYTES);
+        List<Node> nodes = new ArrayList<>(nrNodes);
+        for (int i = 0; i < nrNodes; i++) {
+            nodes.add(new Node(in.readString(), in.readString(), in.readString()));
+        }
+
+        return new Network(instructions, nodes);
+    }
+
     public long nrStepsToZZZ() {
+        DayEvents.NetworkWalk event = new DayEvents.NetworkWalk();
+        event.begin();
+
         long nrSteps = 0;
         Node currentNode = findNode("AAA");
 
+        // ZZZ might not be reachable: the budget stops the walk
         while (!currentNode.name().equals("ZZZ")) {
+            if ((nrSteps & (STEPS_PER_CHECKPOINT - 1)) == STEPS_PER_CHECKPOINT - 1) {
+                SolveBudget.checkpoint(STEPS_PER_CHECKPOINT);
+            }
             currentNode = nextNode(currentNode, nrSteps);
             nrSteps++;
         }
 
+        commit(event, "AAA", nrSteps);
+
         return nrSteps;
     }
 
+    private static void commit(DayEvents.NetworkWalk event, String startNode, long nrSteps) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.startNode = startNode;
+            event.nrSteps = nrSteps;
+            event.commit();
+        }
+    }
+
     private Node findNode(String targetNode) {
         return nodes.stream()
                 .filter(node -> node.name().equals(targetNode))
@@ -82,13 +125,22 @@ record Network(String instructions, List<Node> nodes) {
         return gcd(Math.max(l1, l2) % min, min);
     }
 
-    private long nrStepsToNodeEndingWithZ(Node node) {
+    private long nrStepsToNodeEndingWithZ(Node startNode) {
+        DayEvents.NetworkWalk event = new DayEvents.NetworkWalk();
+        event.begin();
+
         long step = 0;
+        Node node = startNode;
 
         while (!nodeEndsWithZ(node)) {
+            if ((step & (STEPS_PER_CHECKPOINT - 1)) == STEPS_PER_CHECKPOINT - 1) {
+                SolveBudget.checkpoint(STEPS_PER_CHECKPOINT);
+            }
             node = nextNode(node, step++);
         }
 
+        commit(event, startNode.name(), step);
+
         return step;
     }
 
@@ -108,42 +160,37 @@ record Network(String instructions, List<Node> nodes) {
     }
 }
 
-public class Day08 extends Day {
+public class Day08 extends ParsedDay<Network> implements SnapshotDay<Network> {
+    @Override
+    public Network parse(List<String> inputRaw) {
+        return Network.of(inputRaw);
+    }
+
+    @Override
+    public void writeSnapshot(Network network, SnapshotWriter out) {
+        network.writeSnapshot(out);
+    }
+
     @Override
-    public String doPart1(List<String> inputRaw) {
-        Network network = Network.of(inputRaw);
+    public Network readSnapshot(SnapshotReader in) {
+        return Network.readSnapshot(in);
+    }
 
+    @Override
+    public String solvePart1(Network network) {
         long result = network.nrStepsToZZZ();
 
         return String.valueOf(result);
     }
 
     @Override
-    public String doPart2(List<String> inputRaw) {
-        Network network = Network.of(inputRaw);
-
+    public String solvePart2(Network network) {
         long result = network.nrStepsToGhostedZ();
 
         return String.valueOf(result);
     }
 
-    // @formatter:off
     static public void main(String[] args) throws Exception {
-        // get our class
-        final Class<?> clazz = new Object() {
-        }.getClass().getEnclosingClass();
-
-        // construct filename with input
-        final String filename = clazz.getSimpleName().toLowerCase().replace("day0", "day") + ".txt";
-
-        // get the classname
-        final String fullClassName = clazz.getCanonicalName();
-
-        // create instance
-        Day day = (Day) Class.forName(fullClassName).getDeclaredConstructor().newInstance();
-
-        // invoke "main" from the base Day class
-        day.main(filename);
+        new Day08().main("day8.txt");
     }
-    // @formatter:on
 }
@@ -4,16 +4,15 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
-import static java.util.stream.Collectors.toList;
-
-record History(List<Long> values) {
-    public Long extrapolatedValue() {
+record History(long[] values) {
+    public long extrapolatedValue() {
         List<History> historicDifferences = getHistoricDifferences();
 
         return historicDifferences.stream()
-                .map(diff -> diff.values().get(diff.values().size() - 1))
-                .reduce(0L, Long::sum);
+                .mapToLong(diff -> diff.values()[diff.values().length - 1])
+                .sum();
     }
 
     private List<History> getHistoricDifferences() {
@@ -30,13 +29,13 @@ record History(List<Long> values) {
     }
 
     private static History getDifferences(History history) {
-        return new History(IntStream.range(0, history.values().size() - 1)
-                .mapToObj(i -> history.values.get(i + 1) - history.values.get(i))
-                .toList());
+        return new History(IntStream.range(0, history.values().length - 1)
+                .mapToLong(i -> history.values[i + 1] - history.values[i])
+                .toArray());
     }
 
     public boolean areAllZeros() {
-        return values.stream()
+        return Arrays.stream(values)
                 .allMatch(l -> l == 0L);
     }
 
@@ -46,19 +45,31 @@ record History(List<Long> values) {
         long firstValue = 0;
 
         for (int i = historicDifferences.size() - 1; i >= 0; i--) {
-            firstValue = historicDifferences.get(i).values.get(0) - firstValue;
+            firstValue = historicDifferences.get(i).values[0] - firstValue;
         }
 
         return firstValue;
     }
 }
 
-public class Day09 extends Day {
+public class Day09 extends ParsedDay<List<History>> implements StreamingDay {
+    @Override
+    public List<History> parse(List<String> inputRaw) {
+        return parseInput(inputRaw.stream()).toList();
+    }
+
     @Override
-    public String doPart1(List<String> inputRaw) {
-        List<History> histories = parseInput(inputRaw);
+    public String solvePart1(List<History> histories) {
+        return part1(histories.stream());
+    }
+
+    @Override
+    public String doPart1(Stream<String> inputRaw) {
+        return part1(parseInput(inputRaw));
+    }
 
-        Long result = histories.stream()
+    private String part1(Stream<History> histories) {
+        Long result = histories
                 .map(History::extrapolatedValue)
                 .reduce(0L, Long::sum);
 
@@ -66,42 +77,31 @@ public class Day09 extends Day {
     }
 
     @Override
-    public String doPart2(List<String> inputRaw) {
-        List<History> histories = parseInput(inputRaw);
+    public String solvePart2(List<History> histories) {
+        return part2(histories.stream());
+    }
 
-        Long result = histories.stream()
+    @Override
+    public String doPart2(Stream<String> inputRaw) {
+        return part2(parseInput(inputRaw));
+    }
+
+    private String part2(Stream<History> histories) {
+        Long result = histories
                 .map(History::extrapolatedBackwardsValue)
                 .reduce(0L, Long::sum);
 
         return String.valueOf(result);
     }
 
-    private List<History> parseInput(List<String> inputRaw) {
-        return inputRaw.stream()
-                .map(line -> Arrays.stream(line.split("\\s+"))
-                        .map(Long::valueOf)
-                        .toList())
-                .map(History::new)
-                .collect(toList());
+    private Stream<History> parseInput(Stream<String> inputRaw) {
+        Tokenizer tokenizer = new Tokenizer();
+
+        return inputRaw
+                .map(line -> new History(tokenizer.reset(line).nextLongs()));
     }
 
-    // @formatter:off
     static public void main(String[] args) throws Exception {
-        // get our class
-        final Class<?> clazz = new Object() {
-        }.getClass().getEnclosingClass();
-
-        // construct filename with input
-        final String filename = clazz.getSimpleName().toLowerCase().replace("day0", "day") + ".txt";
-
-        // get the classname
-        final String fullClassName = clazz.getCanonicalName();
-
-        // create instance
-        Day day = (Day) Class.forName(fullClassName).getDeclaredConstructor().newInstance();
-
-        // invoke "main" from the base Day class
-        day.main(filename);
+        new Day09().main("day9.txt");
     }
-    // @formatter:on
 }
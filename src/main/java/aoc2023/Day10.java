@@ -1,44 +1,43 @@
 package aoc2023;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.BitSet;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.stream.IntStream;
 
 import static aoc2023.Direction.E;
 import static aoc2023.Direction.N;
 import static aoc2023.Direction.S;
 import static aoc2023.Direction.W;
 
-enum Direction {N, S, E, W}
+enum Direction {
+    N(0, -1), S(0, 1), E(1, 0), W(-1, 0);
 
-record PointDay10(int x, int y) {
-    PointDay10 nextPoint(Direction direction) {
-        return switch (direction) {
-            case N -> new PointDay10(x, y - 1);
-            case E -> new PointDay10(x + 1, y);
-            case S -> new PointDay10(x, y + 1);
-            case W -> new PointDay10(x - 1, y);
-        };
-    }
+    final int dx;
+    final int dy;
 
-    boolean isAbove(PointDay10 other) {
-        return x == other.x() && y + 1 == other.y();
+    Direction(int dx, int dy) {
+        this.dx = dx;
+        this.dy = dy;
     }
 
-    boolean isRightOf(PointDay10 other) {
-        return x + 1 == other.x() && y == other.y();
+    Direction opposite() {
+        return switch (this) {
+            case N -> S;
+            case S -> N;
+            case E -> W;
+            case W -> E;
+        };
     }
+}
 
-    boolean isLeftOf(PointDay10 other) {
-        return x - 1 == other.x() && y == other.y();
-    }
+// the loop through the start: the tiles on it (by grid index), the number of tiles,
+// the direction it leaves the start and the direction it comes back to the start
+record PipeLoop(BitSet onLoop, int length, Direction firstDirection, Direction lastDirection) {
 }
 
-record Field(Map<PointDay10, Character> map, PointDay10 start) {
+record Field(Grid grid, int startX, int startY) {
     final public static char GROUND = '.';
     final public static char VERTICAL = '|';
     final public static char HORIONTAL = '-';
@@ -48,80 +47,84 @@ record Field(Map<PointDay10, Character> map, PointDay10 start) {
     final public static char SOUTH_EAST = 'F';
 
     public static Field of(List<String> lines) {
-        Map<PointDay10, Character> map = new HashMap<>();
-        PointDay10 start;
+        Grid grid = Grid.of(lines);
 
-        IntStream.range(0, lines.size())
-                .forEach(y -> IntStream.range(0, lines.get(y).length())
-                        .forEach(x -> map.put(new PointDay10(x, y), lines.get(y).charAt(x)))
-                );
+        for (int y = 0; y < grid.height(); y++) {
+            for (int x = 0; x < grid.width(); x++) {
+                if (grid.getUnchecked(x, y) == 'S') {
+                    return new Field(grid, x, y);
+                }
+            }
+        }
 
-        start = map.entrySet().stream()
-                .filter(pointDay10CharacterEntry -> pointDay10CharacterEntry.getValue() == 'S')
-                .findFirst()
-                .map(Map.Entry::getKey)
-                .orElseThrow(() -> new IllegalStateException("start not found"));
+        throw new IllegalStateException("start not found");
+    }
 
-        return new Field(map, start);
+    // part 2 replaces the start with the actual pipe
+    public Field copy() {
+        return new Field(grid.copy(), startX, startY);
     }
 
     public long findLargestNrStepsInLoop() {
-        List<PointDay10> loop = findLoop();
-
-        return loop.size() / 2;
+        return findLoop().length() / 2;
     }
 
-    private List<PointDay10> findLoop() {
+    private PipeLoop findLoop() {
         return Arrays.stream(Direction.values())
-                .map(direction -> findLoop(start, direction))
+                .map(this::findLoop)
                 .filter(Objects::nonNull)
                 .findFirst()
                 .orElseThrow(() -> new IllegalStateException("no loop found"));
     }
 
-    private List<PointDay10> findLoop(PointDay10 start, Direction direction) {
-        PointDay10 currentPoint = start;
+    // walks the pipes with the grid coordinates, nothing is allocated per step
+    private PipeLoop findLoop(Direction direction) {
         Direction currentDirection = direction;
 
-        List<PointDay10> loop = new ArrayList<>(List.of(start));
-        PointDay10 nextPoint = currentPoint.nextPoint(direction);
+        BitSet onLoop = new BitSet();
+        onLoop.set(grid.index(startX, startY));
+        int length = 1;
+        int x = startX + direction.dx;
+        int y = startY + direction.dy;
 
-        while (!nextPoint.equals(start)) {
+        while (x != startX || y != startY) {
             // off the field (maybe not needed)
-            if (!map.containsKey(nextPoint)) {
+            if (!grid.inBounds(x, y)) {
                 return null;
             }
 
             // next point is ground
-            if (map.get(nextPoint) == GROUND) {
+            char pipe = (char) grid.getUnchecked(x, y);
+            if (pipe == GROUND) {
                 return null;
             }
 
             // some internal loop not ending at start (maybe not needed)
-            if (loop.contains(nextPoint)) {
+            if (onLoop.get(grid.index(x, y))) {
                 return null;
             }
 
             try {
                 currentDirection = switch (currentDirection) {
-                    case N -> nextDirectionGoingNorth(map.get(nextPoint));
-                    case E -> nextDirectionGoingEast(map.get(nextPoint));
-                    case S -> nextDirectionGoingSouth(map.get(nextPoint));
-                    case W -> nextDirectionGoingWest(map.get(nextPoint));
+                    case N -> nextDirectionGoingNorth(pipe);
+                    case E -> nextDirectionGoingEast(pipe);
+                    case S -> nextDirectionGoingSouth(pipe);
+                    case W -> nextDirectionGoingWest(pipe);
                 };
 
-                loop.add(nextPoint);
-                currentPoint = nextPoint;
-                nextPoint = currentPoint.nextPoint(currentDirection);
+                onLoop.set(grid.index(x, y));
+                length++;
+                x += currentDirection.dx;
+                y += currentDirection.dy;
             } catch (IllegalStateException ise) {
                 return null;
             }
         }
 
-        return loop;
+        return new PipeLoop(onLoop, length, direction, currentDirection);
     }
 
-    private Direction nextDirectionGoingNorth(Character pipe) {
+    private Direction nextDirectionGoingNorth(char pipe) {
         return switch (pipe) {
             case VERTICAL -> N;
             case SOUTH_WEST -> W;
@@ -130,7 +133,7 @@ record Field(Map<PointDay10, Character> map, PointDay10 start) {
         };
     }
 
-    private Direction nextDirectionGoingSouth(Character pipe) {
+    private Direction nextDirectionGoingSouth(char pipe) {
         return switch (pipe) {
             case VERTICAL -> S;
             case NORTH_EAST -> E;
@@ -139,7 +142,7 @@ record Field(Map<PointDay10, Character> map, PointDay10 start) {
         };
     }
 
-    private Direction nextDirectionGoingEast(Character pipe) {
+    private Direction nextDirectionGoingEast(char pipe) {
         return switch (pipe) {
             case HORIONTAL -> E;
             case SOUTH_WEST -> S;
@@ -148,7 +151,7 @@ record Field(Map<PointDay10, Character> map, PointDay10 start) {
         };
     }
 
-    private Direction nextDirectionGoingWest(Character pipe) {
+    private Direction nextDirectionGoingWest(char pipe) {
         return switch (pipe) {
             case HORIONTAL -> W;
             case NORTH_EAST -> N;
@@ -158,47 +161,58 @@ record Field(Map<PointDay10, Character> map, PointDay10 start) {
     }
 
     public long findNrEnclosedTiles() {
-        List<PointDay10> loop = findLoop();
+        PipeLoop loop = findLoop();
 
         replaceStartWithActualPipe(loop);
+        BitSet onLoop = loop.onLoop();
 
         // used a hint for Reddit, could not figure out a nice way
-        return map.keySet().stream()
-                .filter(point -> !loop.contains(point))
-                .filter(point1 -> isInsideLoop(loop, point1))
-                .count();
+        long nrEnclosedTiles = 0;
+        for (int y = 0; y < grid.height(); y++) {
+            for (int x = 0; x < grid.width(); x++) {
+                if (!onLoop.get(grid.index(x, y)) && isInsideLoop(onLoop, x, y)) {
+                    nrEnclosedTiles++;
+                }
+            }
+        }
+
+        return nrEnclosedTiles;
     }
 
-    private void replaceStartWithActualPipe(List<PointDay10> loop) {
-        PointDay10 pointAfterStart = loop.get(1);
-        PointDay10 pointBeforeStart = loop.getLast();
+    // the start connects to the first tile of the loop and to the last one (opposite of the way back into the start)
+    private void replaceStartWithActualPipe(PipeLoop loop) {
+        EnumSet<Direction> connections = EnumSet.of(loop.firstDirection(), loop.lastDirection().opposite());
+
+        char pipe;
+        if (connections.equals(EnumSet.of(N, S))) {
+            pipe = VERTICAL;
+        } else if (connections.equals(EnumSet.of(E, W))) {
+            pipe = HORIONTAL;
+        } else if (connections.equals(EnumSet.of(N, E))) {
+            pipe = NORTH_EAST;
+        } else if (connections.equals(EnumSet.of(N, W))) {
+            pipe = NORTH_WEST;
+        } else if (connections.equals(EnumSet.of(S, W))) {
+            pipe = SOUTH_WEST;
+        } else {
+            pipe = SOUTH_EAST;
+        }
 
-        if (pointBeforeStart.x() == pointAfterStart.x()) {
-            map.put(start, VERTICAL);
-        } else if (pointBeforeStart.isAbove(start) && pointAfterStart.isRightOf(start) ||
-                   pointAfterStart.isAbove(start) && pointBeforeStart.isRightOf(start)
-        ) {
-            map.put(start, NORTH_EAST);
-        } else if (pointBeforeStart.isLeftOf(start) && pointAfterStart.isAbove(start) ||
-                   pointAfterStart.isLeftOf(start) && pointBeforeStart.isAbove(start)
-        )
-            map.put(start, NORTH_WEST);
+        grid.set(startX, startY, (byte) pipe);
     }
 
-    private boolean isInsideLoop(List<PointDay10> loop, PointDay10 point) {
+    private boolean isInsideLoop(BitSet onLoop, int pointX, int pointY) {
         // looking from the left: if the number of walls is odd then it is inside
         // only consider: | L J
         int nrWalls = 0;
 
-        for (int x = 0; x < point.x(); x++) {
-            PointDay10 pointBefore = new PointDay10(x, point.y());
-
+        for (int x = 0; x < pointX; x++) {
             // skip laying around junk
-            if (!loop.contains(pointBefore)) {
+            if (!onLoop.get(grid.index(x, pointY))) {
                 continue;
             }
 
-            char c = map.get(pointBefore);
+            char c = (char) grid.getUnchecked(x, pointY);
             if (c == VERTICAL) {
                 nrWalls++;
             }
@@ -211,42 +225,32 @@ record Field(Map<PointDay10, Character> map, PointDay10 start) {
     }
 }
 
-public class Day10 extends Day {
+public class Day10 extends ParsedDay<Field> {
+    @Override
+    public Field parse(List<String> inputRaw) {
+        return Field.of(inputRaw);
+    }
+
     @Override
-    public String doPart1(List<String> inputRaw) {
-        Field field = Field.of(inputRaw);
+    Field copy(Field field) {
+        return field.copy();
+    }
 
+    @Override
+    public String solvePart1(Field field) {
         long result = field.findLargestNrStepsInLoop();
 
         return String.valueOf(result);
     }
 
     @Override
-    public String doPart2(List<String> inputRaw) {
-        Field field = Field.of(inputRaw);
-
+    public String solvePart2(Field field) {
         long result = field.findNrEnclosedTiles();
 
         return String.valueOf(result);
     }
 
-    // @formatter:off
     static public void main(String[] args) throws Exception {
-        // get our class
-        final Class<?> clazz = new Object() {
-        }.getClass().getEnclosingClass();
-
-        // construct filename with input
-        final String filename = clazz.getSimpleName().toLowerCase().replace("day0", "day") + ".txt";
-
-        // get the classname
-        final String fullClassName = clazz.getCanonicalName();
-
-        // create instance
-        Day day = (Day) Class.forName(fullClassName).getDeclaredConstructor().newInstance();
-
-        // invoke "main" from the base Day class
-        day.main(filename);
+        new Day10().main("day10.txt");
     }
-    // @formatter:on
 }
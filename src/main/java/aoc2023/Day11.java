@@ -1,9 +1,8 @@
 package aoc2023;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.stream.IntStream;
 
 
 record PointDay11(int x, int y) {
@@ -19,51 +18,36 @@ record Pair(PointDay11 p1, PointDay11 p2) {
     }
 }
 
-record Image(Map<PointDay11, Character> map, List<Integer> emptyRows, List<Integer> emptyColumns) {
-    final public static char GALAXY = '#';
+record Image(Grid grid, List<Integer> emptyRows, List<Integer> emptyColumns) {
+    final public static byte GALAXY = '#';
 
     public static Image of(List<String> lines) {
-        Map<PointDay11, Character> map = new HashMap<>();
-
-        for (int y = 0; y < lines.size(); y++) {
-            String line = lines.get(y);
-            for (int x = 0; x < line.length(); x++) {
-                map.put(new PointDay11(x, y), line.charAt(x));
-            }
-        }
+        Grid grid = Grid.of(lines);
 
         // find rows without galaxies
-        List<Integer> emptyRows = new ArrayList<>();
-        for (int y = 0; y < lines.size(); y++) {
-            String line = lines.get(y);
-            boolean galaxiesFound = false;
-            for (int x = 0; x < line.length(); x++) {
-                if (map.get(new PointDay11(x, y)) == GALAXY) {
-                    galaxiesFound = true;
-                }
-            }
-
-            if (!galaxiesFound) {
-                emptyRows.add(y);
-            }
-        }
+        List<Integer> emptyRows = IntStream.range(0, grid.height())
+                .filter(y -> !grid.rowContains(y, GALAXY))
+                .boxed()
+                .toList();
 
         // find columns without galaxies
-        List<Integer> emptyColumns = new ArrayList<>();
-        for (int x = 0; x < lines.get(0).length(); x++) {
-            boolean galaxiesFound = false;
-            for (int y = 0; y < lines.size(); y++) {
-                if (map.get(new PointDay11(x, y)) == GALAXY) {
-                    galaxiesFound = true;
-                }
-            }
+        boolean[] columnsWithGalaxies = grid.columnsContaining(GALAXY);
+        List<Integer> emptyColumns = IntStream.range(0, grid.width())
+                .filter(x -> !columnsWithGalaxies[x])
+                .boxed()
+                .toList();
 
-            if (!galaxiesFound) {
-                emptyColumns.add(x);
-            }
-        }
+        return new Image(grid, emptyRows, emptyColumns);
+    }
+
+    public void writeSnapshot(SnapshotWriter out) {
+        grid.writeSnapshot(out);
+        out.writeInts(emptyRows)
+                .writeInts(emptyColumns);
+    }
 
-        return new Image(map, emptyRows, emptyColumns);
+    public static Image readSnapshot(SnapshotReader in) {
+        return new Image(Grid.readSnapshot(in), in.readInts(), in.readInts());
     }
 
     public long sumShortestPaths(int factor) {
@@ -82,6 +66,46 @@ record Image(Map<PointDay11, Character> map, List<Integer> emptyRows, List<Integ
         return sumShortestPaths / 2;
     }
 
+    // the distance is the sum of the distances per axis, so every axis is done on its own:
+    // walking the expanded coordinates in order, a galaxy adds its distance to all galaxies before it
+    public long sumShortestPathsPerAxis(int factor) {
+        int[] galaxiesPerColumn = new int[grid.width()];
+        int[] galaxiesPerRow = new int[grid.height()];
+        for (int y = 0; y < grid.height(); y++) {
+            for (int x = 0; x < grid.width(); x++) {
+                if (grid.getUnchecked(x, y) == GALAXY) {
+                    galaxiesPerColumn[x]++;
+                    galaxiesPerRow[y]++;
+                }
+            }
+        }
+
+        int adjustedFactor = factor == 1 ? 1 : factor - 1;
+        return sumDistances(galaxiesPerColumn, emptyColumns, adjustedFactor) + sumDistances(galaxiesPerRow, emptyRows, adjustedFactor);
+    }
+
+    private static long sumDistances(int[] galaxiesPerLine, List<Integer> emptyLines, int adjustedFactor) {
+        long sumDistances = 0;
+        long nrGalaxiesBefore = 0;
+        long sumCoordinatesBefore = 0;
+        int emptyLinesBefore = 0;
+
+        for (int i = 0; i < galaxiesPerLine.length; i++) {
+            if (emptyLinesBefore < emptyLines.size() && emptyLines.get(emptyLinesBefore) == i) {
+                emptyLinesBefore++;
+                continue;
+            }
+
+            long coordinate = i + (long) adjustedFactor * emptyLinesBefore;
+            long nrGalaxies = galaxiesPerLine[i];
+            sumDistances += nrGalaxies * (nrGalaxiesBefore * coordinate - sumCoordinatesBefore);
+            nrGalaxiesBefore += nrGalaxies;
+            sumCoordinatesBefore += nrGalaxies * coordinate;
+        }
+
+        return sumDistances;
+    }
+
     private long distance(Pair pair, int factor) {
         PointDay11 p1 = pair.p1();
         int emptyRowsBefore1 = getEmptyRowsBefore(p1);
@@ -111,53 +135,70 @@ record Image(Map<PointDay11, Character> map, List<Integer> emptyRows, List<Integ
     }
 
     public List<PointDay11> galaxies() {
-        return map.entrySet().stream()
-                .filter(pointDay11CharacterEntry -> pointDay11CharacterEntry.getValue() == GALAXY)
-                .map(Map.Entry::getKey)
-                .toList();
+        List<PointDay11> galaxies = new ArrayList<>();
+        for (int y = 0; y < grid.height(); y++) {
+            for (int x = 0; x < grid.width(); x++) {
+                if (grid.getUnchecked(x, y) == GALAXY) {
+                    galaxies.add(new PointDay11(x, y));
+                }
+            }
+        }
+
+        return galaxies;
     }
 }
 
-public class Day11 extends Day {
+public class Day11 extends ParsedDay<Image> implements SnapshotDay<Image> {
+    private final static String PER_AXIS_STRATEGY = "per-axis";
+
+    // the reference sums the distances of all pairs
     @Override
-    public String doPart1(List<String> inputRaw) {
-        Image image = Image.of(inputRaw);
+    List<String> strategies() {
+        return List.of(PER_AXIS_STRATEGY, REFERENCE_STRATEGY);
+    }
 
-        long result = image.sumShortestPaths(1);
+    private long sumShortestPaths(Image image, int factor) {
+        return strategy().equals(REFERENCE_STRATEGY) ? image.sumShortestPaths(factor) : image.sumShortestPathsPerAxis(factor);
+    }
+
+    @Override
+    public Image parse(List<String> inputRaw) {
+        return Image.of(inputRaw);
+    }
+
+    @Override
+    public void writeSnapshot(Image image, SnapshotWriter out) {
+        image.writeSnapshot(out);
+    }
+
+    @Override
+    public Image readSnapshot(SnapshotReader in) {
+        return Image.readSnapshot(in);
+    }
+
+    @Override
+    public String solvePart1(Image image) {
+        long result = sumShortestPaths(image, 1);
 
         return String.valueOf(result);
     }
 
     public String doPart2(List<String> inputRaw, int factor) {
-        Image image = Image.of(inputRaw);
+        return solvePart2(model(inputRaw), factor);
+    }
 
-        long result = image.sumShortestPaths(factor);
+    private String solvePart2(Image image, int factor) {
+        long result = sumShortestPaths(image, factor);
 
         return String.valueOf(result);
     }
 
     @Override
-    public String doPart2(List<String> inputRaw) {
-        return doPart2(inputRaw, 1_000_000);
+    public String solvePart2(Image image) {
+        return solvePart2(image, 1_000_000);
     }
 
-    // @formatter:off
     static public void main(String[] args) throws Exception {
-        // get our class
-        final Class<?> clazz = new Object() {
-        }.getClass().getEnclosingClass();
-
-        // construct filename with input
-        final String filename = clazz.getSimpleName().toLowerCase().replace("day0", "day") + ".txt";
-
-        // get the classname
-        final String fullClassName = clazz.getCanonicalName();
-
-        // create instance
-        Day day = (Day) Class.forName(fullClassName).getDeclaredConstructor().newInstance();
-
-        // invoke "main" from the base Day class
-        day.main(filename);
+        new Day11().main("day11.txt");
     }
-    // @formatter:on
 }
@@ -5,30 +5,19 @@ import org.apache.commons.lang3.StringUtils;
 import java.util.ArrayList;
 import java.util.List;
 
-record PointDay13(int x, int y) {
-
-}
-
-record Pattern(List<PointDay13> mirrors, int maxX, int maxY) {
-    public final static char MIRROR = '#';
+// the columns are the transposed grid, so columns are compared as rows
+record Pattern(Grid grid, Grid columns) {
+    public final static byte MIRROR = '#';
+    public final static byte ASH = '.';
 
     public static Pattern of(List<String> lines) {
-        List<PointDay13> mirrors = new ArrayList<>();
-        int maxX = 0;
-        int maxY = 0;
-
-        for (int y = 1; y <= lines.size(); y++) {
-            String line = lines.get(y - 1);
-            for (int x = 1; x <= line.length(); x++) {
-                maxX = x;
-                if (line.charAt(x - 1) == MIRROR) {
-                    mirrors.add(new PointDay13(x, y));
-                }
-            }
-            maxY = y;
-        }
+        Grid grid = Grid.of(lines);
 
-        return new Pattern(mirrors, maxX, maxY);
+        return new Pattern(grid, grid.transpose());
+    }
+
+    public Pattern copy() {
+        return new Pattern(grid.copy(), columns.copy());
     }
 
     public long reflection() {
@@ -39,27 +28,16 @@ record Pattern(List<PointDay13> mirrors, int maxX, int maxY) {
         return verticalReflectionSkipExistingReflection(0L);
     }
 
+    // reflections are counted in columns left of the mirror line
     public long verticalReflectionSkipExistingReflection(long existingReflection) {
-        boolean mirrorring = true;
-
-        for (int reflectionAfterX = 1; reflectionAfterX < maxX; reflectionAfterX++) {
+        for (int reflectionAfterX = 1; reflectionAfterX < grid.width(); reflectionAfterX++) {
             if (reflectionAfterX == existingReflection) {
                 continue;
             }
 
-            mirrorring = true;
-            for (int x = 1; x <= reflectionAfterX && mirrorring; x++) {
-                for (int y = 1; y <= maxY && mirrorring; y++) {
-                    PointDay13 firstPoint = new PointDay13(x, y);
-                    int mirrorPointX = mirrorPoint(reflectionAfterX, x);
-                    if (mirrorPointX > maxX) {
-                        continue;
-                    }
-                    PointDay13 mirrorPoint = new PointDay13(mirrorPointX, y);
-                    if (notMirrored(firstPoint, mirrorPoint)) {
-                        mirrorring = false;
-                    }
-                }
+            boolean mirrorring = true;
+            for (int x = reflectionAfterX - 1, mirrorX = reflectionAfterX; x >= 0 && mirrorX < grid.width() && mirrorring; x--, mirrorX++) {
+                mirrorring = columns.rowEquals(x, mirrorX);
             }
 
             if (mirrorring) {
@@ -67,43 +45,23 @@ record Pattern(List<PointDay13> mirrors, int maxX, int maxY) {
             }
         }
 
-        if (!mirrorring) {
-            return 0;
-        } else {
-            throw new IllegalStateException("unexpected..");
-        }
-    }
-
-    private boolean notMirrored(PointDay13 firstPoint, PointDay13 mirrorPoint) {
-        return (mirrors.contains(firstPoint) && !mirrors.contains(mirrorPoint)) ||
-               (!mirrors.contains(firstPoint) && mirrors.contains(mirrorPoint));
+        return 0;
     }
 
     public long horizontalReflection() {
         return horizontalReflectionSkipExistingReflection(0L);
     }
 
+    // reflections are counted in rows above the mirror line
     public long horizontalReflectionSkipExistingReflection(long existingReflection) {
-        boolean mirrorring = true;
-
-        for (int reflectionBelowY = 1; reflectionBelowY < maxY; reflectionBelowY++) {
+        for (int reflectionBelowY = 1; reflectionBelowY < grid.height(); reflectionBelowY++) {
             if (reflectionBelowY == existingReflection) {
                 continue;
             }
 
-            mirrorring = true;
-            for (int y = 1; y <= reflectionBelowY && mirrorring; y++) {
-                for (int x = 1; x <= maxX && mirrorring; x++) {
-                    PointDay13 firstPoint = new PointDay13(x, y);
-                    int mirrorPointY = mirrorPoint(reflectionBelowY, y);
-                    if (mirrorPointY > maxY) {
-                        continue;
-                    }
-                    PointDay13 mirrorPoint = new PointDay13(x, mirrorPointY);
-                    if (notMirrored(firstPoint, mirrorPoint)) {
-                        mirrorring = false;
-                    }
-                }
+            boolean mirrorring = true;
+            for (int y = reflectionBelowY - 1, mirrorY = reflectionBelowY; y >= 0 && mirrorY < grid.height() && mirrorring; y--, mirrorY++) {
+                mirrorring = grid.rowEquals(y, mirrorY);
             }
 
             if (mirrorring) {
@@ -111,27 +69,20 @@ record Pattern(List<PointDay13> mirrors, int maxX, int maxY) {
             }
         }
 
-        if (!mirrorring) {
-            return 0;
-        } else {
-            throw new IllegalStateException("unexpected..");
-        }
-    }
-
-    private static int mirrorPoint(int reflectionAfter, int coordinate) {
-        return 2 * reflectionAfter + 1 - coordinate;
+        return 0;
     }
 
     public long reflectionWithFixedSmudge() {
         long horizontalReflection = horizontalReflection();
         long verticalReflection = verticalReflection();
 
-        for (int x = 1; x <= maxX; x++) {
-            for (int y = 1; y <= maxY; y++) {
-                Pattern modifiedMirrors = flipMirror(x, y);
-
-                long newHorizontalReflection = modifiedMirrors.horizontalReflectionSkipExistingReflection(horizontalReflection);
-                long newVerticalReflection = modifiedMirrors.verticalReflectionSkipExistingReflection(verticalReflection);
+        for (int x = 0; x < grid.width(); x++) {
+            for (int y = 0; y < grid.height(); y++) {
+                // flip the cell in place (in both grids), and back after checking
+                flipMirror(x, y);
+                long newHorizontalReflection = horizontalReflectionSkipExistingReflection(horizontalReflection);
+                long newVerticalReflection = verticalReflectionSkipExistingReflection(verticalReflection);
+                flipMirror(x, y);
 
                 if (newHorizontalReflection != 0 || newVerticalReflection != 0) {
                     return 100L * newHorizontalReflection + newVerticalReflection;
@@ -142,17 +93,11 @@ record Pattern(List<PointDay13> mirrors, int maxX, int maxY) {
         throw new IllegalStateException("no reflection with smudge found");
     }
 
-    private Pattern flipMirror(int x, int y) {
-        List<PointDay13> newMirrors = new ArrayList<>(mirrors);
-
-        PointDay13 smudgePoint = new PointDay13(x, y);
-        if (mirrors.contains(smudgePoint)) {
-            newMirrors.remove(smudgePoint);
-        } else {
-            newMirrors.add(smudgePoint);
-        }
+    private void flipMirror(int x, int y) {
+        byte flipped = grid.get(x, y) == MIRROR ? ASH : MIRROR;
 
-        return new Pattern(newMirrors, maxX, maxY);
+        grid.set(x, y, flipped);
+        columns.set(y, x, flipped);
     }
 }
 
@@ -167,6 +112,28 @@ record Valley(List<Pattern> pattern) {
         return new Valley(patterns);
     }
 
+    public Valley copy() {
+        return new Valley(pattern.stream().map(Pattern::copy).toList());
+    }
+
+    // only the grids, the columns are transposed again on load
+    public void writeSnapshot(SnapshotWriter out) {
+        out.writeInt(pattern.size());
+        pattern.forEach(valleyPattern -> valleyPattern.grid().writeSnapshot(out));
+    }
+
+    public static Valley readSnapshot(SnapshotReader in) {
+        // a grid has at least its width, height and number of cells
+        int nrPatterns = in.readCount(3 * Integer.BYTES);
+        List<Pattern> patterns = new ArrayList<>(nrPatterns);
+        for (int i = 0; i < nrPatterns; i++) {
+            Grid grid = Grid.readSnapshot(in);
+            patterns.add(new Pattern(grid, grid.transpose()));
+        }
+
+        return new Valley(patterns);
+    }
+
     private static void addLine(List<Pattern> patterns, List<String> patternLines, String line) {
         if (StringUtils.isBlank(line)) {
             patterns.add(Pattern.of(patternLines));
@@ -177,11 +144,30 @@ record Valley(List<Pattern> pattern) {
     }
 }
 
-public class Day13 extends Day {
+public class Day13 extends ParsedDay<Valley> implements SnapshotDay<Valley> {
+    @Override
+    public Valley parse(List<String> inputRaw) {
+        return Valley.of(inputRaw);
+    }
+
+    // the smudges are fixed in place while solving part 2
+    @Override
+    Valley copy(Valley valley) {
+        return valley.copy();
+    }
+
+    @Override
+    public void writeSnapshot(Valley valley, SnapshotWriter out) {
+        valley.writeSnapshot(out);
+    }
+
     @Override
-    public String doPart1(List<String> inputRaw) {
-        Valley valley = Valley.of(inputRaw);
+    public Valley readSnapshot(SnapshotReader in) {
+        return Valley.readSnapshot(in);
+    }
 
+    @Override
+    public String solvePart1(Valley valley) {
         long result = valley.pattern().stream()
                 .map(Pattern::reflection)
                 .reduce(0L, Long::sum);
@@ -190,9 +176,7 @@ public class Day13 extends Day {
     }
 
     @Override
-    public String doPart2(List<String> inputRaw) {
-        Valley valley = Valley.of(inputRaw);
-
+    public String solvePart2(Valley valley) {
         long result = valley.pattern().stream()
                 .map(Pattern::reflectionWithFixedSmudge)
                 .reduce(0L, Long::sum);
@@ -200,23 +184,7 @@ public class Day13 extends Day {
         return String.valueOf(result);
     }
 
-    // @formatter:off
     static public void main(String[] args) throws Exception {
-        // get our class
-        final Class<?> clazz = new Object() {
-        }.getClass().getEnclosingClass();
-
-        // construct filename with input
-        final String filename = clazz.getSimpleName().toLowerCase().replace("day0", "day") + ".txt";
-
-        // get the classname
-        final String fullClassName = clazz.getCanonicalName();
-
-        // create instance
-        Day day = (Day) Class.forName(fullClassName).getDeclaredConstructor().newInstance();
-
-        // invoke "main" from the base Day class
-        day.main(filename);
+        new Day13().main("day13.txt");
     }
-    // @formatter:on
 }
@@ -5,181 +5,148 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-record PointDay14(int x, int y) {
-
-}
-
-record Platform(Map<PointDay14, Character> rocks, int maxX, int maxY) {
-    public final static char ROUND_ROCK = 'O';
-    public final static char CUBE_ROCK = '#';
+record Platform(Grid grid) {
+    public final static byte ROUND_ROCK = 'O';
+    public final static byte CUBE_ROCK = '#';
+    public final static byte EMPTY = '.';
 
     public static Platform of(List<String> lines) {
-        Map<PointDay14, Character> rocks = new HashMap<>();
-        int maxX = 0;
-        int maxY = 0;
-
-        for (int y = 0; y < lines.size(); y++) {
-            String line = lines.get(y);
-            for (int x = 0; x < line.length(); x++) {
-                maxX = x;
-                char c = line.charAt(x);
-                if (c == ROUND_ROCK || c == CUBE_ROCK) {
-                    rocks.put(new PointDay14(x, y), c);
-                }
-            }
-            maxY = y;
-        }
+        return new Platform(Grid.of(lines));
+    }
 
-        return new Platform(rocks, maxX, maxY);
+    public void writeSnapshot(SnapshotWriter out) {
+        grid.writeSnapshot(out);
     }
 
+    public static Platform readSnapshot(SnapshotReader in) {
+        return new Platform(Grid.readSnapshot(in));
+    }
+
+    // every tilt rolls the round rocks to the first free cell in the tilt direction
     public Platform tiltNorth() {
-        Map<PointDay14, Character> newRocks = new HashMap<>();
-        // copy top row
-        rocks.keySet().stream()
-                .filter(point -> point.y() == 0)
-                .forEach(point -> newRocks.put(point, rocks.get(point)));
-
-        for (int y = 1; y <= maxY; y++) {
-            for (int x = 0; x <= maxX; x++) {
-                PointDay14 point = new PointDay14(x, y);
-                if (handledNotRoundRock(point, newRocks)) continue;
-
-                // find the highest point where we can move the rock to
-                PointDay14 newPoint = null;
-                for (int yNew = y - 1; yNew >= 0; yNew--) {
-                    newPoint = new PointDay14(x, yNew);
-                    if (newRocks.containsKey(newPoint)) {
-                        newPoint = new PointDay14(x, yNew + 1);
-                        break;
-                    }
+        Grid newGrid = grid.copy();
+
+        for (int x = 0; x < newGrid.width(); x++) {
+            int free = 0;
+            for (int y = 0; y < newGrid.height(); y++) {
+                byte c = newGrid.getUnchecked(x, y);
+                if (c == CUBE_ROCK) {
+                    free = y + 1;
+                } else if (c == ROUND_ROCK) {
+                    newGrid.setUnchecked(x, y, EMPTY);
+                    newGrid.setUnchecked(x, free++, ROUND_ROCK);
                 }
-
-                newRocks.put(newPoint, ROUND_ROCK);
             }
         }
 
-        return new Platform(newRocks, maxX, maxY);
+        return new Platform(newGrid);
     }
 
     public Platform tiltSouth() {
-        Map<PointDay14, Character> newRocks = new HashMap<>();
-        // copy bottom row
-        rocks.keySet().stream()
-                .filter(point -> point.y() == maxY)
-                .forEach(point -> newRocks.put(point, rocks.get(point)));
-
-        for (int y = maxY - 1; y >= 0; y--) {
-            for (int x = 0; x <= maxX; x++) {
-                PointDay14 point = new PointDay14(x, y);
-                if (handledNotRoundRock(point, newRocks)) continue;
-
-                // find the lowest point where we can move the rock to
-                PointDay14 newPoint = null;
-                for (int yNew = y + 1; yNew <= maxY; yNew++) {
-                    newPoint = new PointDay14(x, yNew);
-                    if (newRocks.containsKey(newPoint)) {
-                        newPoint = new PointDay14(x, yNew - 1);
-                        break;
-                    }
+        Grid newGrid = grid.copy();
+
+        for (int x = 0; x < newGrid.width(); x++) {
+            int free = newGrid.height() - 1;
+            for (int y = newGrid.height() - 1; y >= 0; y--) {
+                byte c = newGrid.getUnchecked(x, y);
+                if (c == CUBE_ROCK) {
+                    free = y - 1;
+                } else if (c == ROUND_ROCK) {
+                    newGrid.setUnchecked(x, y, EMPTY);
+                    newGrid.setUnchecked(x, free--, ROUND_ROCK);
                 }
-
-                newRocks.put(newPoint, ROUND_ROCK);
             }
         }
 
-        return new Platform(newRocks, maxX, maxY);
+        return new Platform(newGrid);
     }
 
     public Platform tiltWest() {
-        Map<PointDay14, Character> newRocks = new HashMap<>();
-        // copy most west row
-        rocks.keySet().stream()
-                .filter(point -> point.x() == 0)
-                .forEach(point -> newRocks.put(point, rocks.get(point)));
-
-        for (int x = 1; x <= maxX; x++) {
-            for (int y = 0; y <= maxY; y++) {
-                PointDay14 point = new PointDay14(x, y);
-                if (handledNotRoundRock(point, newRocks)) continue;
-
-                // find the most west point where we can move the rock to
-                PointDay14 newPoint = null;
-                for (int xNew = x - 1; xNew >= 0; xNew--) {
-                    newPoint = new PointDay14(xNew, y);
-                    if (newRocks.containsKey(newPoint)) {
-                        newPoint = new PointDay14(xNew + 1, y);
-                        break;
-                    }
-                }
+        Grid newGrid = grid.copy();
 
-                Character c = newRocks.putIfAbsent(newPoint, ROUND_ROCK);
-                if (c != null) {
-                    System.out.println();
+        for (int y = 0; y < newGrid.height(); y++) {
+            if (!newGrid.rowContains(y, ROUND_ROCK)) {
+                continue;
+            }
+            int free = 0;
+            for (int x = 0; x < newGrid.width(); x++) {
+                byte c = newGrid.getUnchecked(x, y);
+                if (c == CUBE_ROCK) {
+                    free = x + 1;
+                } else if (c == ROUND_ROCK) {
+                    newGrid.setUnchecked(x, y, EMPTY);
+                    newGrid.setUnchecked(free++, y, ROUND_ROCK);
                 }
             }
         }
 
-        return new Platform(newRocks, maxX, maxY);
+        return new Platform(newGrid);
     }
 
     public Platform tiltEast() {
-        Map<PointDay14, Character> newRocks = new HashMap<>();
-        // copy most east row
-        rocks.keySet().stream()
-                .filter(point -> point.x() == maxX)
-                .forEach(point -> newRocks.put(point, rocks.get(point)));
-
-        for (int x = maxX - 1; x >= 0; x--) {
-            for (int y = 0; y <= maxY; y++) {
-                PointDay14 point = new PointDay14(x, y);
-                if (handledNotRoundRock(point, newRocks)) continue;
-
-                // find the most east point where we can move the rock to
-                PointDay14 newPoint = null;
-                for (int xNew = x + 1; xNew <= maxX; xNew++) {
-                    newPoint = new PointDay14(xNew, y);
-                    if (newRocks.containsKey(newPoint)) {
-                        newPoint = new PointDay14(xNew - 1, y);
-                        break;
-                    }
-                }
+        Grid newGrid = grid.copy();
 
-                newRocks.put(newPoint, ROUND_ROCK);
+        for (int y = 0; y < newGrid.height(); y++) {
+            if (!newGrid.rowContains(y, ROUND_ROCK)) {
+                continue;
+            }
+            int free = newGrid.width() - 1;
+            for (int x = newGrid.width() - 1; x >= 0; x--) {
+                byte c = newGrid.getUnchecked(x, y);
+                if (c == CUBE_ROCK) {
+                    free = x - 1;
+                } else if (c == ROUND_ROCK) {
+                    newGrid.setUnchecked(x, y, EMPTY);
+                    newGrid.setUnchecked(free--, y, ROUND_ROCK);
+                }
             }
         }
 
-        return new Platform(newRocks, maxX, maxY);
+        return new Platform(newGrid);
     }
 
-
-    private boolean handledNotRoundRock(PointDay14 point, Map<PointDay14, Character> newRocks) {
-        if (!rocks.containsKey(point)) {
-            return true;
+    public long totalLoad() {
+        long totalLoad = 0;
+        for (int y = 0; y < grid.height(); y++) {
+            totalLoad += (long) grid.countInRow(y, ROUND_ROCK) * (grid.height() - y);
         }
 
-        if (rocks.get(point) == CUBE_ROCK) {
-            newRocks.put(point, CUBE_ROCK);
-            return true;
-        }
+        return totalLoad;
+    }
 
-        return false;
+    public Platform cycle() {
+        return tiltNorth().tiltWest().tiltSouth().tiltEast();
     }
 
-    public long totalLoad() {
-        return rocks.entrySet().stream()
-                .filter(pointRock -> pointRock.getValue() == ROUND_ROCK)
-                .map(this::load)
-                .reduce(0, Integer::sum);
+    // the platforms repeat: remember every platform and jump ahead when one comes back
+    public long totalLoadAfterCycles(int nrCycles) {
+        Map<Grid, Integer> cycles = new HashMap<>();
+        // the total load after a number of cycles
+        List<Long> totalLoads = new ArrayList<>();
 
-    }
+        Platform platform = this;
+        for (int cycle = 0; cycle < nrCycles; cycle++) {
+            SolveBudget.checkpoint();
+            Integer firstCycle = cycles.putIfAbsent(platform.grid(), cycle);
+            if (firstCycle != null) {
+                return totalLoads.get(firstCycle + (nrCycles - firstCycle) % (cycle - firstCycle));
+            }
+            totalLoads.add(platform.totalLoad());
 
-    private int load(Map.Entry<PointDay14, Character> pointRock) {
-        return maxY + 1 - pointRock.getKey().y();
-    }
+            DayEvents.PlatformCycle event = new DayEvents.PlatformCycle();
+            event.begin();
 
-    public Platform cycle() {
-        return tiltNorth().tiltWest().tiltSouth().tiltEast();
+            platform = platform.cycle();
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.cycle = cycle;
+                event.totalLoad = platform.totalLoad();
+                event.commit();
+            }
+        }
+
+        return platform.totalLoad();
     }
 
     public Long totalLoadAfterManyCycles() {
@@ -187,8 +154,20 @@ record Platform(Map<PointDay14, Character> rocks, int maxX, int maxY) {
 
         Platform platform = this;
         for (int cycle = 0; cycle < 10_000; cycle++) {
+            SolveBudget.checkpoint();
+            DayEvents.PlatformCycle event = new DayEvents.PlatformCycle();
+            event.begin();
+
             platform = platform.cycle();
-            totalLoads.add(platform.totalLoad());
+            long totalLoad = platform.totalLoad();
+            totalLoads.add(totalLoad);
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.cycle = cycle;
+                event.totalLoad = totalLoad;
+                event.commit();
+            }
 
             if (cycle < 100) {
                 continue;
@@ -206,7 +185,7 @@ record Platform(Map<PointDay14, Character> rocks, int maxX, int maxY) {
 
                 // keep removing the repetition from the back
                 List<Long> firstPart = totalLoads.subList(0, totalLoads.size() - lengthRepetition);
-                while (firstPart.subList(firstPart.size() - lengthRepetition, firstPart.size()).equals(repetition)) {
+                while (firstPart.size() >= lengthRepetition && firstPart.subList(firstPart.size() - lengthRepetition, firstPart.size()).equals(repetition)) {
                     firstPart = firstPart.subList(0, firstPart.size() - lengthRepetition);
                 }
 
@@ -229,11 +208,32 @@ record Platform(Map<PointDay14, Character> rocks, int maxX, int maxY) {
     }
 }
 
-public class Day14 extends Day {
+public class Day14 extends ParsedDay<Platform> implements SnapshotDay<Platform> {
+    private final static String SEEN_PLATFORMS_STRATEGY = "seen-platforms";
+
+    // the reference looks for a repetition in the total loads
     @Override
-    public String doPart1(List<String> inputRaw) {
-        Platform platform = Platform.of(inputRaw);
+    List<String> strategies() {
+        return List.of(SEEN_PLATFORMS_STRATEGY, REFERENCE_STRATEGY);
+    }
 
+    @Override
+    public Platform parse(List<String> inputRaw) {
+        return Platform.of(inputRaw);
+    }
+
+    @Override
+    public void writeSnapshot(Platform platform, SnapshotWriter out) {
+        platform.writeSnapshot(out);
+    }
+
+    @Override
+    public Platform readSnapshot(SnapshotReader in) {
+        return Platform.readSnapshot(in);
+    }
+
+    @Override
+    public String solvePart1(Platform platform) {
         platform = platform.tiltNorth();
 
         long result = platform.totalLoad();
@@ -242,32 +242,15 @@ public class Day14 extends Day {
     }
 
     @Override
-    public String doPart2(List<String> inputRaw) {
-
-        Platform platform = Platform.of(inputRaw);
-
-        long result = platform.totalLoadAfterManyCycles();
+    public String solvePart2(Platform platform) {
+        long result = strategy().equals(REFERENCE_STRATEGY) ?
+                platform.totalLoadAfterManyCycles() :
+                platform.totalLoadAfterCycles(1_000_000_000);
 
         return String.valueOf(result);
     }
 
-    // @formatter:off
     static public void main(String[] args) throws Exception {
-        // get our class
-        final Class<?> clazz = new Object() {
-        }.getClass().getEnclosingClass();
-
-        // construct filename with input
-        final String filename = clazz.getSimpleName().toLowerCase().replace("day0", "day") + ".txt";
-
-        // get the classname
-        final String fullClassName = clazz.getCanonicalName();
-
-        // create instance
-        Day day = (Day) Class.forName(fullClassName).getDeclaredConstructor().newInstance();
-
-        // invoke "main" from the base Day class
-        day.main(filename);
+        new Day14().main("day14.txt");
     }
-    // @formatter:on
 }
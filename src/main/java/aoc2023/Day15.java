@@ -1,13 +1,30 @@
 package aoc2023;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// rn=1 or cm-, the focal length is 0 for a '-' step
+// part 1 only hashes, so a step without an operation (like 'HASH') is fine until it is applied
+record InitializationStep(String step, String label, char operation, int focalLength) {
+    private final static char NO_OPERATION = ' ';
+
+    public static InitializationStep of(String step) {
+        Tokenizer tokenizer = Tokenizer.of(step);
+        String label = tokenizer.nextToken();
+        char operation = tokenizer.hasNext() ? tokenizer.next() : NO_OPERATION;
+        int focalLength = operation == '=' ? tokenizer.nextInt() : 0;
+
+        return new InitializationStep(step, label, operation, focalLength);
+    }
 
-record InitializationStep(String step) {
     private long hash(String s) {
         int currentValue = 0;
 
@@ -26,25 +43,43 @@ record InitializationStep(String step) {
     }
 
     public long hashLabel() {
-        String[] split = step.split("[=-]");
-        return hash(split[0]);
-    }
-
-    public String label() {
-        return step.split("[=-]")[0];
+        return hash(label);
     }
 }
 
 record InitializationSequence(List<InitializationStep> steps) {
     public static InitializationSequence of(List<String> lines) {
-        return new InitializationSequence(lines.stream()
-                .flatMap(line -> Arrays.stream(line.split(",")))
-                .map(InitializationStep::new)
-                .toList());
+        return new InitializationSequence(steps(lines.stream()).toList());
+    }
+
+    public static Stream<InitializationStep> steps(Stream<String> lines) {
+        return lines.flatMap(InitializationSequence::steps);
+    }
+
+    // split lazily: a step is only made when the stream asks for it, so one step at a time is in memory
+    private static Stream<InitializationStep> steps(String line) {
+        Tokenizer tokenizer = Tokenizer.of(line);
+        Spliterator<InitializationStep> steps = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super InitializationStep> action) {
+                if (!tokenizer.hasNext()) {
+                    return false;
+                }
+                action.accept(InitializationStep.of(tokenizer.nextUntil(',')));
+
+                return true;
+            }
+        };
+
+        return StreamSupport.stream(steps, false);
     }
 
     public long sumHashes() {
-        return steps.stream()
+        return sumHashes(steps.stream());
+    }
+
+    public static long sumHashes(Stream<InitializationStep> steps) {
+        return steps
                 .map(InitializationStep::hashStep)
                 .reduce(0L, Long::sum);
     }
@@ -81,22 +116,24 @@ record Facility(Map<Integer, Box> boxes) {
     }
 
     public void applyLensOperations(InitializationSequence initializationSequence) {
-        initializationSequence.steps().forEach(this::applyLensOperation);
+        applyLensOperations(initializationSequence.steps().stream());
+    }
+
+    public void applyLensOperations(Stream<InitializationStep> steps) {
+        steps.forEach(this::applyLensOperation);
     }
 
     private void applyLensOperation(InitializationStep s) {
-        String[] split = s.step().split("[=-]");
         int boxNr = Math.toIntExact(s.hashLabel());
         String lensLabel = s.label();
-        char operation = s.step().charAt(lensLabel.length());
+        char operation = s.operation();
         Box box = boxes.get(boxNr);
         switch (operation) {
             case '-':
                 box.lenses().removeIf(lens -> lens.label().equals(lensLabel));
                 break;
             case '=':
-                int focalLength = Integer.parseInt(split[1]);
-                Lens newLens = new Lens(lensLabel, focalLength);
+                Lens newLens = new Lens(lensLabel, s.focalLength());
                 if (box.lenses().stream()
                         .noneMatch(lens -> lens.label().equals(lensLabel))) {
                     box.lenses().add(newLens);
@@ -114,20 +151,21 @@ record Facility(Map<Integer, Box> boxes) {
     }
 }
 
-public class Day15 extends Day {
+public class Day15 extends ParsedDay<InitializationSequence> implements StreamingDay {
     @Override
-    public String doPart1(List<String> inputRaw) {
-        InitializationSequence initializationSequence = InitializationSequence.of(inputRaw);
+    public InitializationSequence parse(List<String> inputRaw) {
+        return InitializationSequence.of(inputRaw);
+    }
 
+    @Override
+    public String solvePart1(InitializationSequence initializationSequence) {
         long result = initializationSequence.sumHashes();
 
         return String.valueOf(result);
     }
 
     @Override
-    public String doPart2(List<String> inputRaw) {
-        InitializationSequence initializationSequence = InitializationSequence.of(inputRaw);
-
+    public String solvePart2(InitializationSequence initializationSequence) {
         Facility facility = Facility.newFacility();
         facility.applyLensOperations(initializationSequence);
 
@@ -136,23 +174,25 @@ public class Day15 extends Day {
         return String.valueOf(result);
     }
 
-    // @formatter:off
-    static public void main(String[] args) throws Exception {
-        // get our class
-        final Class<?> clazz = new Object() {
-        }.getClass().getEnclosingClass();
+    // the steps are handled one by one, note that the puzzle input is a single (long) line
+    @Override
+    public String doPart1(Stream<String> inputRaw) {
+        long result = InitializationSequence.sumHashes(InitializationSequence.steps(inputRaw));
 
-        // construct filename with input
-        final String filename = clazz.getSimpleName().toLowerCase().replace("day0", "day") + ".txt";
+        return String.valueOf(result);
+    }
 
-        // get the classname
-        final String fullClassName = clazz.getCanonicalName();
+    @Override
+    public String doPart2(Stream<String> inputRaw) {
+        Facility facility = Facility.newFacility();
+        facility.applyLensOperations(InitializationSequence.steps(inputRaw));
 
-        // create instance
-        Day day = (Day) Class.forName(fullClassName).getDeclaredConstructor().newInstance();
+        long result = facility.totalFocusingPower();
 
-        // invoke "main" from the base Day class
-        day.main(filename);
+        return String.valueOf(result);
+    }
+
+    static public void main(String[] args) throws Exception {
+        new Day15().main("day15.txt");
     }
-    // @formatter:on
 }
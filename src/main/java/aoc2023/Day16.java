@@ -1,10 +1,6 @@
 package aoc2023;
 
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -13,82 +9,43 @@ import static aoc2023.DirectionDay16.L;
 import static aoc2023.DirectionDay16.R;
 import static aoc2023.DirectionDay16.U;
 
-enum DirectionDay16 {U, D, L, R}
+enum DirectionDay16 {
+    U(0, -1), D(0, 1), L(-1, 0), R(1, 0);
 
-record PointDay16(int x, int y) {
-    public PointDay16 move(DirectionDay16 direction) {
-        return switch (direction) {
-            case U -> new PointDay16(x, y - 1);
-            case D -> new PointDay16(x, y + 1);
-            case L -> new PointDay16(x - 1, y);
-            case R -> new PointDay16(x + 1, y);
-        };
+    final int dx;
+    final int dy;
+
+    DirectionDay16(int dx, int dy) {
+        this.dx = dx;
+        this.dy = dy;
     }
 }
 
+record PointDay16(int x, int y) {
+}
+
+// where a beam enters the contraption
 record PointWithDirection(PointDay16 point, DirectionDay16 direction) {
-    public final static char EMPTY = '.';
+}
+
+record Contraption(Grid grid) {
     public final static char BEAM_LEFT = '\\';
     public final static char BEAM_RIGHT = '/';
     public final static char SPLITTER_HORIZONTAL = '-';
     public final static char SPLITTER_VERTICAL = '|';
 
-    public List<PointWithDirection> move(char laser) {
-
-        if (laser == EMPTY) return List.of(new PointWithDirection(point().move(direction), direction));
-
-        if (laser == BEAM_LEFT && direction == L ||
-            laser == BEAM_RIGHT && direction == R
-        ) return List.of(new PointWithDirection(point().move(U), U));
-
-        if (laser == BEAM_LEFT && direction == R ||
-            laser == BEAM_RIGHT && direction == L
-        ) return List.of(new PointWithDirection(point().move(D), D));
-
-        if (laser == BEAM_LEFT && direction == U ||
-            laser == BEAM_RIGHT && direction == D
-        ) return List.of(new PointWithDirection(point().move(L), L));
-
-        if (laser == BEAM_LEFT && direction == D ||
-            laser == BEAM_RIGHT && direction == U
-        ) return List.of(new PointWithDirection(point().move(R), R));
-
-
-        if (laser == SPLITTER_HORIZONTAL && (direction == R || direction == L))
-            return List.of(new PointWithDirection(point().move(direction), direction));
-
-        if (laser == SPLITTER_VERTICAL && (direction == D || direction == U))
-            return List.of(new PointWithDirection(point().move(direction), direction));
-
-        if (laser == SPLITTER_VERTICAL && (direction == L || direction == R))
-            return List.of(
-                    new PointWithDirection(point().move(U), U),
-                    new PointWithDirection(point().move(D), D)
-            );
-
-        if (laser == SPLITTER_HORIZONTAL && (direction == D || direction == U))
-            return List.of(
-                    new PointWithDirection(point().move(L), L),
-                    new PointWithDirection(point().move(R), R)
-            );
-
-        throw new IllegalStateException("move error");
-    }
-}
-
-record Contraption(Map<PointDay16, Character> map) {
+    private final static DirectionDay16[] DIRECTIONS = DirectionDay16.values();
 
     public static Contraption of(List<String> lines) {
-        Map<PointDay16, Character> map = new HashMap<>();
+        return new Contraption(Grid.of(lines));
+    }
 
-        for (int y = 0; y < lines.size(); y++) {
-            String line = lines.get(y);
-            for (int x = 0; x < line.length(); x++) {
-                map.put(new PointDay16(x, y), line.charAt(x));
-            }
-        }
+    public void writeSnapshot(SnapshotWriter out) {
+        grid.writeSnapshot(out);
+    }
 
-        return new Contraption(map);
+    public static Contraption readSnapshot(SnapshotReader in) {
+        return new Contraption(Grid.readSnapshot(in));
     }
 
     public long nrEnergizedTiles() {
@@ -96,33 +53,90 @@ record Contraption(Map<PointDay16, Character> map) {
     }
 
     public long nrEnergizedTiles(PointWithDirection currentPoint) {
-        Set<PointWithDirection> visitedPoints = new HashSet<>();
-        Set<PointDay16> energizedTiles = new HashSet<>();
+        // packed points: no boxed keys and entries per visited tile
+        return nrEnergizedTiles(currentPoint, new LongHashSet(), new LongHashSet());
+    }
+
+    // the sets are cleared, so they can be reused for the next start
+    private long nrEnergizedTiles(PointWithDirection currentPoint, LongHashSet visitedPoints, LongHashSet energizedTiles) {
+        SolveBudget.checkpoint();
+        DayEvents.BeamStart event = new DayEvents.BeamStart();
+        event.begin();
 
+        visitedPoints.clear();
+        energizedTiles.clear();
         beam(visitedPoints, energizedTiles, currentPoint);
 
+        event.end();
+        if (event.shouldCommit()) {
+            event.x = currentPoint.point().x();
+            event.y = currentPoint.point().y();
+            event.direction = currentPoint.direction().name();
+            event.nrEnergizedTiles = energizedTiles.size();
+            event.commit();
+        }
+
         return energizedTiles.size();
     }
 
-    private void beam(Set<PointWithDirection> visitedPoints, Set<PointDay16> energizedTiles, PointWithDirection pointWithDirection) {
-        while (map.containsKey(pointWithDirection.point()) && !visitedPoints.contains(pointWithDirection)) {
-            energizedTiles.add(pointWithDirection.point());
-            visitedPoints.add(pointWithDirection);
+    // follows a beam until it leaves the grid or comes to a tile it passed in the same direction before
+    // the other half of a split beam is pushed on a stack (packed point with the direction), so no recursion
+    private void beam(LongHashSet visitedPoints, LongHashSet energizedTiles, PointWithDirection start) {
+        LongStack beams = new LongStack();
+        beams.push(PackedPoint.of(start.point().x(), start.point().y(), start.direction().ordinal()));
+
+        while (!beams.isEmpty()) {
+            long beam = beams.pop();
+            int x = PackedPoint.x(beam);
+            int y = PackedPoint.y(beam);
+            DirectionDay16 direction = DIRECTIONS[PackedPoint.tag(beam)];
+
+            while (grid.inBounds(x, y) && visitedPoints.add(PackedPoint.of(x, y, direction.ordinal()))) {
+                energizedTiles.add(PackedPoint.of(x, y));
+
+                char tile = (char) grid.getUnchecked(x, y);
+                if (tile == SPLITTER_HORIZONTAL && (direction == U || direction == D)) {
+                    beams.push(PackedPoint.of(x + 1, y, R.ordinal()));
+                    direction = L;
+                } else if (tile == SPLITTER_VERTICAL && (direction == L || direction == R)) {
+                    beams.push(PackedPoint.of(x, y + 1, D.ordinal()));
+                    direction = U;
+                } else {
+                    direction = nextDirection(tile, direction);
+                }
+                x += direction.dx;
+                y += direction.dy;
+            }
+        }
+    }
 
-            List<PointWithDirection> nextPoints = pointWithDirection.move(map.get(pointWithDirection.point()));
-            nextPoints.forEach(nextPoint -> beam(visitedPoints, energizedTiles, nextPoint));
+    // the direction after a mirror, or the same direction for an empty tile or a splitter passed along its length
+    private static DirectionDay16 nextDirection(char tile, DirectionDay16 direction) {
+        if (tile == BEAM_LEFT) {
+            return switch (direction) {
+                case L -> U;
+                case R -> D;
+                case U -> L;
+                case D -> R;
+            };
+        }
+        if (tile == BEAM_RIGHT) {
+            return switch (direction) {
+                case R -> U;
+                case L -> D;
+                case D -> L;
+                case U -> R;
+            };
         }
+
+        return direction;
     }
 
     public long maxNrEnergizedTilesForAllEdgeTiles() {
-        int maxX = map.keySet().stream()
-                .map(PointDay16::x)
-                .max(Integer::compareTo)
-                .orElseThrow(() -> new IllegalStateException("no max"));
-        int maxY = map.keySet().stream()
-                .map(PointDay16::y)
-                .max(Integer::compareTo)
-                .orElseThrow(() -> new IllegalStateException("no max"));
+        int maxX = grid.width() - 1;
+        int maxY = grid.height() - 1;
+        LongHashSet visitedPoints = new LongHashSet();
+        LongHashSet energizedTiles = new LongHashSet();
 
         return Stream.of(
                         IntStream.range(0, maxX)
@@ -142,48 +156,43 @@ record Contraption(Map<PointDay16, Character> map) {
                                 .map(y -> new PointWithDirection(new PointDay16(maxX, y), L))
                 )
                 .flatMap(pointWithDirectionStream -> pointWithDirectionStream)
-                .map(this::nrEnergizedTiles)
+                .map(start -> nrEnergizedTiles(start, visitedPoints, energizedTiles))
                 .max(Long::compare)
                 .orElseThrow(() -> new IllegalStateException("no max found"));
     }
 }
 
-public class Day16 extends Day {
+public class Day16 extends ParsedDay<Contraption> implements SnapshotDay<Contraption> {
     @Override
-    public String doPart1(List<String> inputRaw) {
-        Contraption contraption = Contraption.of(inputRaw);
+    public Contraption parse(List<String> inputRaw) {
+        return Contraption.of(inputRaw);
+    }
 
+    @Override
+    public void writeSnapshot(Contraption contraption, SnapshotWriter out) {
+        contraption.writeSnapshot(out);
+    }
+
+    @Override
+    public Contraption readSnapshot(SnapshotReader in) {
+        return Contraption.readSnapshot(in);
+    }
+
+    @Override
+    public String solvePart1(Contraption contraption) {
         long result = contraption.nrEnergizedTiles();
 
         return String.valueOf(result);
     }
 
     @Override
-    public String doPart2(List<String> inputRaw) {
-        Contraption contraption = Contraption.of(inputRaw);
-
+    public String solvePart2(Contraption contraption) {
         long result = contraption.maxNrEnergizedTilesForAllEdgeTiles();
 
         return String.valueOf(result);
     }
 
-    // @formatter:off
     static public void main(String[] args) throws Exception {
-        // get our class
-        final Class<?> clazz = new Object() {
-        }.getClass().getEnclosingClass();
-
-        // construct filename with input
-        final String filename = clazz.getSimpleName().toLowerCase().replace("day0", "day") + ".txt";
-
-        // get the classname
-        final String fullClassName = clazz.getCanonicalName();
-
-        // create instance
-        Day day = (Day) Class.forName(fullClassName).getDeclaredConstructor().newInstance();
-
-        // invoke "main" from the base Day class
-        day.main(filename);
+        new Day16().main("day16.txt");
     }
-    // @formatter:on
 }
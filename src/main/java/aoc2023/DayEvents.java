@@ -0,0 +1,101 @@
+package aoc2023;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Java Flight Recorder events, so a recording shows where the time goes: reading, parsing or solving
+// e.g. java -XX:StartFlightRecording=filename=aoc.jfr ... and then: jfr print --events 'aoc2023.*' aoc.jfr
+final class DayEvents {
+    private DayEvents() {
+    }
+
+    @Name("aoc2023.InputRead")
+    @Label("Input Read")
+    @Category({"Advent of Code", "Input"})
+    static final class InputRead extends Event {
+        @Label("File")
+        String file;
+
+        @Label("Lines")
+        int nrLines;
+
+        @Label("Size")
+        @DataAmount
+        long nrBytes;
+    }
+
+    @Name("aoc2023.Parse")
+    @Label("Parse")
+    @Category({"Advent of Code", "Day"})
+    static final class Parse extends Event {
+        @Label("Day")
+        String day;
+
+        @Label("Lines")
+        int nrLines;
+    }
+
+    @Name("aoc2023.Part")
+    @Label("Part")
+    @Category({"Advent of Code", "Day"})
+    static final class Part extends Event {
+        @Label("Day")
+        String day;
+
+        @Label("Part")
+        int part;
+
+        @Label("Lines")
+        @Description("Number of input lines, -1 when the input is streamed")
+        int nrLines;
+
+        @Label("Result")
+        String result;
+    }
+
+    @Name("aoc2023.PlatformCycle")
+    @Label("Platform Cycle")
+    @Description("One spin cycle of the platform (day 14)")
+    @Category({"Advent of Code", "Solver"})
+    static final class PlatformCycle extends Event {
+        @Label("Cycle")
+        int cycle;
+
+        @Label("Total Load")
+        long totalLoad;
+    }
+
+    @Name("aoc2023.NetworkWalk")
+    @Label("Network Walk")
+    @Description("A walk through the network from a start node to an end node (day 8)")
+    @Category({"Advent of Code", "Solver"})
+    static final class NetworkWalk extends Event {
+        @Label("Start Node")
+        String startNode;
+
+        @Label("Steps")
+        long nrSteps;
+    }
+
+    @Name("aoc2023.BeamStart")
+    @Label("Beam Start")
+    @Description("The beam entering the contraption at one tile (day 16)")
+    @Category({"Advent of Code", "Solver"})
+    static final class BeamStart extends Event {
+        @Label("X")
+        int x;
+
+        @Label("Y")
+        int y;
+
+        @Label("Direction")
+        String direction;
+
+        @Label("Energized Tiles")
+        long nrEnergizedTiles;
+    }
+}
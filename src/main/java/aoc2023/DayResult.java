@@ -0,0 +1,13 @@
+package aoc2023;
+
+import java.util.List;
+
+// the results of a day, parseNanos is 0 for days that parse while solving the parts
+public record DayResult(String day, long parseNanos, List<PartResult> parts) {
+    // the answers of the parts, in order
+    public List<String> results() {
+        return parts.stream()
+                .map(PartResult::result)
+                .toList();
+    }
+}
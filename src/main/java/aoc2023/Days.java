@@ -0,0 +1,50 @@
+package aoc2023;
+
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+import static java.util.Map.entry;
+
+// all the days, without reflection
+public final class Days {
+    private final static Map<Integer, Supplier<Day>> DAYS = Map.ofEntries(
+            entry(1, Day01::new),
+            entry(2, Day02::new),
+            entry(3, Day03::new),
+            entry(4, Day04::new),
+            entry(5, Day05::new),
+            entry(6, Day06::new),
+            entry(7, Day07::new),
+            entry(8, Day08::new),
+            entry(9, Day09::new),
+            entry(10, Day10::new),
+            entry(11, Day11::new),
+            entry(13, Day13::new),
+            entry(14, Day14::new),
+            entry(15, Day15::new),
+            entry(16, Day16::new)
+    );
+
+    private Days() {
+    }
+
+    public static SortedSet<Integer> dayNrs() {
+        return new TreeSet<>(DAYS.keySet());
+    }
+
+    public static Day create(int dayNr) {
+        Supplier<Day> day = DAYS.get(dayNr);
+        if (day == null) {
+            throw new IllegalArgumentException("unknown day: " + dayNr);
+        }
+
+        return day.get();
+    }
+
+    // the input on the classpath
+    public static String inputFilename(int dayNr) {
+        return "day" + dayNr + ".txt";
+    }
+}
@@ -0,0 +1,320 @@
+package aoc2023;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URISyntaxException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.summingLong;
+
+record FootprintEntry(String type, String category, long count, long bytes) {
+}
+
+record FootprintReport(String day, long inputBytes, long bytes, long nrObjects, List<FootprintEntry> types) {
+    public double bytesPerInputByte() {
+        return inputBytes == 0 ? 0 : (double) bytes / inputBytes;
+    }
+
+    // the bytes per category, the largest first
+    public Map<String, Long> categories() {
+        Map<String, Long> categories = types.stream()
+                .collect(groupingBy(FootprintEntry::category, summingLong(FootprintEntry::bytes)));
+
+        return categories.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .collect(LinkedHashMap::new, (map, entry) -> map.put(entry.getKey(), entry.getValue()), Map::putAll);
+    }
+}
+
+// estimates the retained size of the parsed model of a day by walking its object graph
+// the sizes are for a 64-bit JVM with compressed oops and class pointers (the default for heaps below 32 GB):
+// 12 bytes object header, 16 bytes array header, 4 bytes per reference, objects aligned to 8 bytes
+// the model classes are walked with reflection, the internals of java.lang and java.util can't be reflected,
+// so strings, boxed primitives and collections are estimated from their size (the capacity of a list is unknown)
+// enum constants are shared and not counted, shared instances like cached Integers are counted
+// usage: Footprint [<day> ...] (default: all days with a parsed model), -Dfootprint.top=n types per day (default 5)
+public class Footprint {
+    final static String MODEL = "records";
+    final static String ARRAYS = "arrays";
+    final static String STRINGS = "strings";
+    final static String BOXED = "boxed primitives";
+    final static String COLLECTIONS = "collection overhead";
+    final static String OTHER = "other";
+
+    private final static int OBJECT_HEADER = 12;
+    private final static int ARRAY_HEADER = 16;
+    private final static int REFERENCE = 4;
+
+    // the size of the value of the boxed primitives
+    private final static Map<Class<?>, Integer> BOXED_TYPES = Map.of(
+            Boolean.class, 1,
+            Byte.class, 1,
+            Character.class, 2,
+            Short.class, 2,
+            Integer.class, 4,
+            Long.class, 8,
+            Float.class, 4,
+            Double.class, 8
+    );
+
+    private final Map<Class<?>, List<Field>> fields = new HashMap<>();
+
+    static FootprintReport of(String day, long inputBytes, Object model) {
+        return new Footprint().measure(day, inputBytes, model);
+    }
+
+    // the model is parsed from the input on the classpath, empty for days without a parsed model
+    static Optional<FootprintReport> of(int dayNr) throws IOException, URISyntaxException {
+        Day day = Days.create(dayNr);
+        if (!(day instanceof ParsedDay<?> parsedDay)) {
+            return Optional.empty();
+        }
+
+        List<String> input = day.readLines(Days.inputFilename(dayNr));
+        long inputBytes = input.stream()
+                .mapToLong(line -> line.length() + 1)
+                .sum();
+
+        return Optional.of(of(day.getClass().getSimpleName(), inputBytes, parsedDay.parse(input)));
+    }
+
+    private FootprintReport measure(String day, long inputBytes, Object model) {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<String, FootprintEntry> types = new HashMap<>();
+
+        // a work list, not recursion: a long list of records would overflow the stack
+        Deque<Object> todo = new ArrayDeque<>();
+        Consumer<Object> reference = object -> {
+            if (object != null && !(object instanceof Enum<?>) && !(object instanceof Class<?>) && visited.add(object)) {
+                todo.push(object);
+            }
+        };
+        reference.accept(model);
+
+        long bytes = 0;
+        while (!todo.isEmpty()) {
+            Object object = todo.pop();
+            FootprintEntry entry = visit(object, reference);
+
+            bytes += entry.bytes();
+            types.merge(entry.type(), entry, (e1, e2) -> new FootprintEntry(e1.type(), e1.category(), e1.count() + e2.count(), e1.bytes() + e2.bytes()));
+        }
+
+        List<FootprintEntry> sortedTypes = types.values().stream()
+                .sorted(Comparator.comparingLong(FootprintEntry::bytes).reversed())
+                .toList();
+
+        return new FootprintReport(day, inputBytes, bytes, visited.size(), sortedTypes);
+    }
+
+    // the (estimated) size of the object itself, the objects it references are passed to the consumer
+    private FootprintEntry visit(Object object, Consumer<Object> reference) {
+        Class<?> type = object.getClass();
+        String name = type.getSimpleName();
+
+        if (type.isArray()) {
+            int length = Array.getLength(object);
+            if (!type.getComponentType().isPrimitive()) {
+                for (Object element : (Object[]) object) {
+                    reference.accept(element);
+                }
+            }
+            return new FootprintEntry(name, ARRAYS, 1, array(length, fieldSize(type.getComponentType())));
+        }
+        if (object instanceof String string) {
+            // compact strings: 1 byte per (ASCII) character
+            return new FootprintEntry(name, STRINGS, 1, align(OBJECT_HEADER + 3 * 4) + array(string.length(), 1));
+        }
+        if (BOXED_TYPES.containsKey(type)) {
+            return new FootprintEntry(name, BOXED, 1, align(OBJECT_HEADER + BOXED_TYPES.get(type)));
+        }
+        if (object instanceof Map<?, ?> map && isJdk(type)) {
+            map.forEach((key, value) -> {
+                reference.accept(key);
+                reference.accept(value);
+            });
+            return new FootprintEntry(name, COLLECTIONS, 1, mapSize(map));
+        }
+        if (object instanceof Collection<?> collection && isJdk(type)) {
+            collection.forEach(reference);
+            return new FootprintEntry(name, COLLECTIONS, 1, collectionSize(collection));
+        }
+        if (object instanceof BitSet bitSet) {
+            return new FootprintEntry(name, COLLECTIONS, 1, align(OBJECT_HEADER + 4 + 1 + REFERENCE) + array(bitSet.size() / 64, 8));
+        }
+
+        List<Field> instanceFields = fields(type);
+        if (instanceFields == null) {
+            // not accessible: only the header
+            return new FootprintEntry(name, OTHER, 1, align(OBJECT_HEADER));
+        }
+
+        long size = OBJECT_HEADER;
+        for (Field field : instanceFields) {
+            size += fieldSize(field.getType());
+            if (!field.getType().isPrimitive()) {
+                try {
+                    reference.accept(field.get(object));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+
+        return new FootprintEntry(name, isJdk(type) ? OTHER : MODEL, 1, align(size));
+    }
+
+    // the instance fields of the class and its super classes, null when they can't be read
+    private List<Field> fields(Class<?> type) {
+        return fields.computeIfAbsent(type, t -> {
+            List<Field> instanceFields = new ArrayList<>();
+            for (Class<?> c = t; c != null; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    if (!field.trySetAccessible()) {
+                        return null;
+                    }
+                    instanceFields.add(field);
+                }
+            }
+
+            return instanceFields;
+        });
+    }
+
+    private static boolean isJdk(Class<?> type) {
+        return type.getName().startsWith("java.");
+    }
+
+    // immutable maps (Map.of) keep the keys and values in one array
+    private static long mapSize(Map<?, ?> map) {
+        if (map instanceof TreeMap<?, ?>) {
+            return treeMapSize(map.size());
+        }
+        if (map instanceof HashMap<?, ?>) {
+            return hashMapSize(map.size(), map instanceof LinkedHashMap<?, ?>);
+        }
+
+        return align(OBJECT_HEADER + 4 + REFERENCE) + array(2L * map.size(), REFERENCE);
+    }
+
+    // the sets are a map, ArrayList and the immutable lists are an array of references
+    private static long collectionSize(Collection<?> collection) {
+        if (collection instanceof HashSet<?>) {
+            return align(OBJECT_HEADER + REFERENCE) + hashMapSize(collection.size(), collection instanceof LinkedHashSet<?>);
+        }
+        if (collection instanceof TreeSet<?>) {
+            return align(OBJECT_HEADER + REFERENCE) + treeMapSize(collection.size());
+        }
+
+        return align(OBJECT_HEADER + 2 * 4 + REFERENCE) + array(collection.size(), REFERENCE);
+    }
+
+    // the map, the table (a power of 2 with load factor 0.75) and a node per entry (hash, key, value, next)
+    // the nodes of a LinkedHashMap also have before and after
+    private static long hashMapSize(int size, boolean linked) {
+        long nodeSize = align(OBJECT_HEADER + 4 + (linked ? 5 : 3) * REFERENCE);
+
+        return align(OBJECT_HEADER + 4 * 4 + 4 * REFERENCE) + array(tableSize(size), REFERENCE) + size * nodeSize;
+    }
+
+    // the map and a node per entry (key, value, left, right, parent, color)
+    private static long treeMapSize(int size) {
+        long nodeSize = align(OBJECT_HEADER + 5 * REFERENCE + 1);
+
+        return align(OBJECT_HEADER + 2 * 4 + 7 * REFERENCE) + size * nodeSize;
+    }
+
+    private static int tableSize(int size) {
+        if (size == 0) {
+            return 0;
+        }
+
+        int capacity = 16;
+        while (capacity * 0.75 < size) {
+            capacity *= 2;
+        }
+
+        return capacity;
+    }
+
+    private static long array(long length, int elementSize) {
+        return align(ARRAY_HEADER + length * elementSize);
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    private static int fieldSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+
+        return REFERENCE;
+    }
+
+    static void print(List<FootprintReport> reports, int nrTypes) {
+        System.out.printf("%-6s %12s %12s %10s %14s%n", "day", "input(B)", "model(B)", "#objects", "B/input byte");
+        reports.forEach(report -> System.out.printf("%-6s %12d %12d %10d %14.1f%n",
+                report.day(),
+                report.inputBytes(),
+                report.bytes(),
+                report.nrObjects(),
+                report.bytesPerInputByte()));
+
+        reports.forEach(report -> {
+            System.out.printf("%n%s%n", report.day());
+            report.categories().forEach((category, bytes) -> System.out.printf("  %-22s %12d  %5.1f%%%n", category, bytes, 100.0 * bytes / report.bytes()));
+            report.types().stream()
+                    .limit(nrTypes)
+                    .forEach(type -> System.out.printf("    %-20s %12d  (#%d, %s)%n", type.type(), type.bytes(), type.count(), type.category()));
+        });
+    }
+
+    static public void main(String[] args) throws Exception {
+        int nrTypes = Integer.getInteger("footprint.top", 5);
+        Collection<Integer> dayNrs = args.length == 0 ?
+                Days.dayNrs() :
+                List.of(args).stream().map(Integer::valueOf).toList();
+
+        List<FootprintReport> reports = new ArrayList<>();
+        for (int dayNr : dayNrs) {
+            of(dayNr).ifPresentOrElse(reports::add, () -> System.out.printf("day %d: no parsed model%n", dayNr));
+        }
+
+        print(reports, nrTypes);
+    }
+}
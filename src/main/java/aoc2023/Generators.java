@@ -0,0 +1,464 @@
+package aoc2023;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// generators for (large) puzzle inputs, the meaning of 'scale' is per day:
+// the number of lines, games, cards, hands, nodes, patterns, steps, the number of ranges per map (day 5),
+// the part 2 race time (day 6) or the width/height of the grid (days 3, 10, 11, 14 and 16)
+public class Generators {
+    private final static String LETTERS = "abcdefghijklmnopqrstuvwxyz";
+    private final static String[] DIGIT_WORDS = {"one", "two", "three", "four", "five", "six", "seven", "eight", "nine"};
+    // as in the input, so the generators don't depend on the models of the days
+    private final static List<String> COLORS = List.of("red", "green", "blue");
+    private final static List<String> CATEGORIES = List.of("seed", "soil", "fertilizer", "water", "light", "temperature", "humidity", "location");
+
+    public static InputGenerator forDay(int day) {
+        return switch (day) {
+            case 1 -> Generators::day01;
+            case 2 -> Generators::day02;
+            case 3 -> Generators::day03;
+            case 4 -> Generators::day04;
+            case 5 -> Generators::day05;
+            case 6 -> Generators::day06;
+            case 7 -> Generators::day07;
+            case 8 -> Generators::day08;
+            case 9 -> Generators::day09;
+            case 10 -> Generators::day10;
+            case 11 -> Generators::day11;
+            case 13 -> Generators::day13;
+            case 14 -> Generators::day14;
+            case 15 -> Generators::day15;
+            case 16 -> Generators::day16;
+            default -> throw new IllegalArgumentException("no generator for day " + day);
+        };
+    }
+
+    public static List<String> generate(int day, int scale, long seed) {
+        StringWriter writer = new StringWriter();
+        try (PrintWriter out = new PrintWriter(writer)) {
+            forDay(day).generate(scale, new Random(seed), out);
+        }
+
+        return writer.toString().lines().toList();
+    }
+
+    public static void generate(int day, int scale, long seed, Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path);
+             PrintWriter out = new PrintWriter(writer)) {
+            forDay(day).generate(scale, new Random(seed), out);
+        }
+    }
+
+    // lines of letters with at least 1 digit, and some digits spelled out
+    static void day01(int scale, Random random, PrintWriter out) {
+        for (int i = 0; i < scale; i++) {
+            StringBuilder line = new StringBuilder();
+            int length = 5 + random.nextInt(25);
+            for (int j = 0; j < length; j++) {
+                line.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+            }
+
+            int nrDigits = 1 + random.nextInt(3);
+            for (int j = 0; j < nrDigits; j++) {
+                line.insert(random.nextInt(line.length() + 1), (char) ('1' + random.nextInt(9)));
+            }
+            int nrWords = random.nextInt(3);
+            for (int j = 0; j < nrWords; j++) {
+                line.insert(random.nextInt(line.length() + 1), DIGIT_WORDS[random.nextInt(DIGIT_WORDS.length)]);
+            }
+
+            out.println(line);
+        }
+    }
+
+    // Game 1: 3 blue, 4 red; 1 red, 2 green, 6 blue; 2 green
+    static void day02(int scale, Random random, PrintWriter out) {
+        for (int id = 1; id <= scale; id++) {
+            int nrGrabs = 1 + random.nextInt(6);
+            String grabs = IntStream.range(0, nrGrabs)
+                    .mapToObj(i -> {
+                        List<String> colors = new ArrayList<>(COLORS);
+                        Collections.shuffle(colors, random);
+                        return colors.subList(0, 1 + random.nextInt(colors.size())).stream()
+                                .map(color -> (1 + random.nextInt(20)) + " " + color)
+                                .collect(Collectors.joining(", "));
+                    })
+                    .collect(Collectors.joining("; "));
+
+            out.println("Game " + id + ": " + grabs);
+        }
+    }
+
+    // a grid with numbers (not touching each other) and symbols
+    static void day03(int scale, Random random, PrintWriter out) {
+        String symbols = "*#+$/=%@&-";
+
+        for (int y = 0; y < scale; y++) {
+            char[] line = new char[scale];
+            Arrays.fill(line, '.');
+
+            int x = 0;
+            while (x < scale) {
+                double r = random.nextDouble();
+                if (r < 0.15) {
+                    String number = String.valueOf(1 + random.nextInt(999));
+                    if (x + number.length() <= scale) {
+                        number.getChars(0, number.length(), line, x);
+                    }
+                    // keep a '.' after the number
+                    x += number.length() + 1;
+                } else if (r < 0.20) {
+                    line[x++] = symbols.charAt(random.nextInt(symbols.length()));
+                } else {
+                    x++;
+                }
+            }
+
+            out.println(line);
+        }
+    }
+
+    // Card 1: 41 48 83 86 17 | 83 86  6 31 17  9 48 53
+    // cards only win cards within their block of 10 cards, else the number of copies grows exponentially
+    static void day04(int scale, Random random, PrintWriter out) {
+        List<Integer> numbers = IntStream.rangeClosed(1, 99).boxed().collect(Collectors.toList());
+
+        for (int cardNr = 1; cardNr <= scale; cardNr++) {
+            Collections.shuffle(numbers, random);
+            List<Integer> winningNumbers = numbers.subList(0, 10);
+            List<Integer> otherNumbers = numbers.subList(10, numbers.size());
+
+            int remainingInBlock = 9 - (cardNr - 1) % 10;
+            int nrMatches = random.nextInt(Math.min(remainingInBlock, scale - cardNr) + 1);
+            List<Integer> myNumbers = new ArrayList<>(winningNumbers.subList(0, nrMatches));
+            myNumbers.addAll(otherNumbers.subList(0, 25 - nrMatches));
+            Collections.shuffle(myNumbers, random);
+
+            out.printf("Card %3d: %s | %s%n", cardNr, formatNumbers(winningNumbers), formatNumbers(myNumbers));
+        }
+    }
+
+    private static String formatNumbers(List<Integer> numbers) {
+        return numbers.stream()
+                .map(n -> String.format("%2d", n))
+                .collect(Collectors.joining(" "));
+    }
+
+    // seeds and the chain of maps from seed to location, each map with 'scale' non-overlapping ranges
+    static void day05(int scale, Random random, PrintWriter out) {
+        // numbers up to 2^32, like the real input, so above Integer.MAX_VALUE as well
+        final long limit = 1L << 32;
+
+        out.println("seeds: " + IntStream.range(0, 10)
+                .mapToObj(i -> random.nextLong(limit) + " " + (1 + random.nextLong(limit / 1000)))
+                .collect(Collectors.joining(" ")));
+
+        for (int i = 0; i < CATEGORIES.size() - 1; i++) {
+            out.println();
+            out.printf("%s-to-%s map:%n", CATEGORIES.get(i), CATEGORIES.get(i + 1));
+
+            // split [0, limit) in 2 * scale segments, every other segment is a range
+            long segmentLength = limit / (2L * scale);
+            for (int range = 0; range < scale; range++) {
+                long sourceStart = 2L * range * segmentLength + random.nextLong(segmentLength / 2 + 1);
+                long length = 1 + random.nextLong(segmentLength / 2 + 1);
+                long destinationStart = random.nextLong(limit);
+                out.println(destinationStart + " " + sourceStart + " " + length);
+            }
+        }
+    }
+
+    // races made by splitting the part 2 race (time ~ scale) in 4 races, so part 2 loops 'scale' times
+    static void day06(int scale, Random random, PrintWriter out) {
+        long time = Math.max(scale, 10) + random.nextInt(10);
+        // a record distance that can be beaten
+        long distance = random.nextLong((time / 2) * (time - time / 2));
+
+        String timeDigits = String.valueOf(time);
+        String distanceDigits = String.valueOf(distance);
+        int nrRaces = Math.min(4, Math.min(timeDigits.length(), distanceDigits.length()));
+
+        out.println("Time:     " + String.join("  ", split(timeDigits, nrRaces)));
+        out.println("Distance: " + String.join("  ", split(distanceDigits, nrRaces)));
+    }
+
+    private static List<String> split(String digits, int nrParts) {
+        List<String> parts = new ArrayList<>();
+        int partLength = digits.length() / nrParts;
+        for (int i = 0; i < nrParts; i++) {
+            int end = i == nrParts - 1 ? digits.length() : (i + 1) * partLength;
+            parts.add(digits.substring(i * partLength, end));
+        }
+
+        return parts;
+    }
+
+    // hands with bids
+    static void day07(int scale, Random random, PrintWriter out) {
+        String cards = "AKQJT98765432";
+
+        for (int i = 0; i < scale; i++) {
+            StringBuilder hand = new StringBuilder();
+            for (int j = 0; j < 5; j++) {
+                hand.append(cards.charAt(random.nextInt(cards.length())));
+            }
+
+            out.println(hand + " " + (1 + random.nextInt(1000)));
+        }
+    }
+
+    // 6 rings of nodes, from a start node (ending with A) the next node, or the one after, is reached
+    // until the end node (ending with Z), AAA to ZZZ is the first ring
+    static void day08(int scale, Random random, PrintWriter out) {
+        int nrRings = 6;
+        int nodesPerRing = Math.max(scale / nrRings, 3);
+
+        StringBuilder instructions = new StringBuilder();
+        int nrInstructions = 50 + random.nextInt(250);
+        for (int i = 0; i < nrInstructions; i++) {
+            instructions.append(random.nextBoolean() ? 'L' : 'R');
+        }
+        out.println(instructions);
+        out.println();
+
+        List<String> nodes = new ArrayList<>();
+        int nodeNr = 0;
+        for (int ring = 0; ring < nrRings; ring++) {
+            List<String> names = new ArrayList<>();
+            names.add(ring == 0 ? "AAA" : nodeName(ring, 2) + "A");
+            for (int i = 1; i < nodesPerRing - 1; i++) {
+                names.add(nodeName(nodeNr++, 3));
+            }
+            names.add(ring == 0 ? "ZZZ" : nodeName(ring, 2) + "Z");
+
+            for (int i = 0; i < names.size(); i++) {
+                // the end node continues at the first node after the start
+                String next = names.get(i == names.size() - 1 ? 1 : i + 1);
+                String skip = i < names.size() - 2 && random.nextBoolean() ? names.get(i + 2) : next;
+                nodes.add(random.nextBoolean() ?
+                        String.format("%s = (%s, %s)", names.get(i), next, skip) :
+                        String.format("%s = (%s, %s)", names.get(i), skip, next));
+            }
+        }
+
+        Collections.shuffle(nodes, random);
+        nodes.forEach(out::println);
+    }
+
+    // letters B-Y only, so the name never ends with A or Z
+    private static String nodeName(int nr, int minLength) {
+        StringBuilder name = new StringBuilder();
+        do {
+            name.append((char) ('B' + nr % 24));
+            nr /= 24;
+        } while (nr > 0 || name.length() < minLength);
+
+        return name.toString();
+    }
+
+    // polynomial sequences of 21 values
+    static void day09(int scale, Random random, PrintWriter out) {
+        for (int i = 0; i < scale; i++) {
+            int degree = random.nextInt(7);
+            long[] coefficients = new long[degree + 1];
+            for (int j = 0; j <= degree; j++) {
+                coefficients[j] = random.nextInt(11) - 5;
+            }
+
+            out.println(IntStream.range(0, 21)
+                    .mapToObj(x -> String.valueOf(polynomial(coefficients, x)))
+                    .collect(Collectors.joining(" ")));
+        }
+    }
+
+    private static long polynomial(long[] coefficients, int x) {
+        long value = 0;
+        for (int k = coefficients.length - 1; k >= 0; k--) {
+            value = value * x + coefficients[k];
+        }
+
+        return value;
+    }
+
+    // a rectangular pipe loop with S in the top left corner, inside and outside filled with random pipes
+    static void day10(int scale, Random random, PrintWriter out) {
+        String junk = ".|-LJ7F";
+        int size = Math.max(scale, 5);
+
+        for (int y = 0; y < size; y++) {
+            char[] line = new char[size];
+            for (int x = 0; x < size; x++) {
+                line[x] = junk.charAt(random.nextInt(junk.length()));
+            }
+
+            if (y == 0) {
+                // S only connects to the pipes of the loop
+                line[1] = '.';
+            } else if (y == 1 || y == size - 2) {
+                for (int x = 1; x < size - 1; x++) {
+                    line[x] = '-';
+                }
+                line[0] = y == 1 ? '.' : line[0];
+                line[1] = y == 1 ? 'S' : 'L';
+                line[size - 2] = y == 1 ? '7' : 'J';
+            } else if (y > 1 && y < size - 2) {
+                line[1] = '|';
+                line[size - 2] = '|';
+            }
+
+            out.println(line);
+        }
+    }
+
+    // galaxies in an image, with some empty rows and columns
+    static void day11(int scale, Random random, PrintWriter out) {
+        boolean[] emptyColumns = new boolean[scale];
+        for (int x = 0; x < scale; x++) {
+            emptyColumns[x] = random.nextInt(10) == 0;
+        }
+
+        for (int y = 0; y < scale; y++) {
+            boolean emptyRow = y > 0 && random.nextInt(10) == 0;
+            char[] line = new char[scale];
+            for (int x = 0; x < scale; x++) {
+                line[x] = !emptyRow && !emptyColumns[x] && random.nextInt(50) == 0 ? '#' : '.';
+            }
+            // at least 1 galaxy
+            if (y == 0) {
+                line[scale / 2] = '#';
+            }
+
+            out.println(line);
+        }
+    }
+
+    // patterns that have a (different) reflection after fixing a single smudge
+    static void day13(int scale, Random random, PrintWriter out) {
+        for (int i = 0; i < scale; i++) {
+            if (i > 0) {
+                out.println();
+            }
+
+            int width = 5 + random.nextInt(13);
+            int height = 5 + random.nextInt(13);
+            boolean[][] mirrors = new boolean[height][width];
+            for (boolean[] row : mirrors) {
+                for (int x = 0; x < width; x++) {
+                    row[x] = random.nextBoolean();
+                }
+            }
+
+            // make a reflection and then add a smudge to a mirrored cell
+            if (random.nextBoolean()) {
+                int reflectionAfterX = 1 + random.nextInt(width - 1);
+                for (boolean[] row : mirrors) {
+                    for (int x = 0; x < reflectionAfterX; x++) {
+                        int mirrorX = 2 * reflectionAfterX - 1 - x;
+                        if (mirrorX < width) {
+                            row[mirrorX] = row[x];
+                        }
+                    }
+                }
+                int smudgeX = reflectionAfterX - 1 - random.nextInt(Math.min(reflectionAfterX, width - reflectionAfterX));
+                int smudgeY = random.nextInt(height);
+                mirrors[smudgeY][smudgeX] = !mirrors[smudgeY][smudgeX];
+            } else {
+                int reflectionBelowY = 1 + random.nextInt(height - 1);
+                for (int y = 0; y < reflectionBelowY; y++) {
+                    int mirrorY = 2 * reflectionBelowY - 1 - y;
+                    if (mirrorY < height) {
+                        mirrors[mirrorY] = mirrors[y].clone();
+                    }
+                }
+                int smudgeX = random.nextInt(width);
+                int smudgeY = reflectionBelowY - 1 - random.nextInt(Math.min(reflectionBelowY, height - reflectionBelowY));
+                mirrors[smudgeY][smudgeX] = !mirrors[smudgeY][smudgeX];
+            }
+
+            for (boolean[] row : mirrors) {
+                char[] line = new char[width];
+                for (int x = 0; x < width; x++) {
+                    line[x] = row[x] ? '#' : '.';
+                }
+                out.println(line);
+            }
+        }
+    }
+
+    // a platform with round and cube rocks
+    static void day14(int scale, Random random, PrintWriter out) {
+        for (int y = 0; y < scale; y++) {
+            char[] line = new char[scale];
+            for (int x = 0; x < scale; x++) {
+                int r = random.nextInt(100);
+                line[x] = r < 15 ? 'O' : r < 30 ? '#' : '.';
+            }
+
+            out.println(line);
+        }
+    }
+
+    // a single line with comma separated steps
+    static void day15(int scale, Random random, PrintWriter out) {
+        int nrLabels = Math.max(10, Math.min(scale / 4, 5000));
+        List<String> labels = IntStream.range(0, nrLabels)
+                .mapToObj(i -> {
+                    StringBuilder label = new StringBuilder();
+                    int length = 2 + random.nextInt(5);
+                    for (int j = 0; j < length; j++) {
+                        label.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+                    }
+                    return label.toString();
+                })
+                .toList();
+
+        for (int i = 0; i < scale; i++) {
+            if (i > 0) {
+                out.print(',');
+            }
+
+            String label = labels.get(random.nextInt(labels.size()));
+            out.print(random.nextInt(3) == 0 ? label + "-" : label + "=" + (1 + random.nextInt(9)));
+        }
+        out.println();
+    }
+
+    // a contraption with some mirrors and splitters
+    static void day16(int scale, Random random, PrintWriter out) {
+        String devices = "/\\|-";
+
+        for (int y = 0; y < scale; y++) {
+            char[] line = new char[scale];
+            for (int x = 0; x < scale; x++) {
+                line[x] = random.nextInt(10) == 0 ? devices.charAt(random.nextInt(devices.length())) : '.';
+            }
+
+            out.println(line);
+        }
+    }
+
+    // usage: Generators <day> <scale> <seed> <output file>
+    static public void main(String[] args) throws IOException {
+        if (args.length != 4) {
+            System.out.println("usage: Generators <day> <scale> <seed> <output file>");
+            return;
+        }
+
+        Path path = Path.of(args[3]);
+        generate(Integer.parseInt(args[0]), Integer.parseInt(args[1]), Long.parseLong(args[2]), path);
+
+        System.out.printf("generated: %s (#bytes: %d)%n", path, Files.size(path));
+    }
+}
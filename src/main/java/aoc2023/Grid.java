@@ -0,0 +1,259 @@
+package aoc2023;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+// a grid of (ASCII) characters, stored row by row in a flat byte array
+public final class Grid {
+    private final static int[] DX_ORTHOGONAL = {0, 1, 0, -1};
+    private final static int[] DY_ORTHOGONAL = {-1, 0, 1, 0};
+    private final static int[] DX_ALL = {0, 1, 1, 1, 0, -1, -1, -1};
+    private final static int[] DY_ALL = {-1, -1, 0, 1, 1, 1, 0, -1};
+
+    private final int width;
+    private final int height;
+    private final byte[] cells;
+
+    @FunctionalInterface
+    public interface CellConsumer {
+        void accept(int x, int y, byte value);
+    }
+
+    private Grid(int width, int height, byte[] cells) {
+        this.width = width;
+        this.height = height;
+        this.cells = cells;
+    }
+
+    public static Grid of(List<String> lines) {
+        int height = lines.size();
+        int width = height == 0 ? 0 : lines.get(0).length();
+        byte[] cells = new byte[width * height];
+
+        for (int y = 0; y < height; y++) {
+            String line = lines.get(y);
+            if (line.length() != width) {
+                throw new IllegalArgumentException("line %d has length %d, expected %d".formatted(y, line.length(), width));
+            }
+            System.arraycopy(line.getBytes(StandardCharsets.ISO_8859_1), 0, cells, y * width, width);
+        }
+
+        return new Grid(width, height, cells);
+    }
+
+    public void writeSnapshot(SnapshotWriter out) {
+        out.writeInt(width)
+                .writeInt(height)
+                .writeBytes(cells);
+    }
+
+    public static Grid readSnapshot(SnapshotReader in) {
+        int width = in.readInt();
+        int height = in.readInt();
+        byte[] cells = in.readBytes();
+        if (width < 0 || height < 0 || (long) width * height != cells.length) {
+            throw new IllegalArgumentException("grid of %d x %d has %d cells".formatted(width, height, cells.length));
+        }
+
+        return new Grid(width, height, cells);
+    }
+
+    public Grid copy() {
+        return new Grid(width, height, cells.clone());
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    public boolean inBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    public int index(int x, int y) {
+        return y * width + x;
+    }
+
+    public byte get(int x, int y) {
+        checkBounds(x, y);
+        return cells[index(x, y)];
+    }
+
+    // the caller guarantees that (x, y) is in the grid
+    public byte getUnchecked(int x, int y) {
+        return cells[index(x, y)];
+    }
+
+    public byte getOrDefault(int x, int y, byte outside) {
+        return inBounds(x, y) ? cells[index(x, y)] : outside;
+    }
+
+    public void set(int x, int y, byte value) {
+        checkBounds(x, y);
+        cells[index(x, y)] = value;
+    }
+
+    public void setUnchecked(int x, int y, byte value) {
+        cells[index(x, y)] = value;
+    }
+
+    private void checkBounds(int x, int y) {
+        if (!inBounds(x, y)) {
+            throw new IndexOutOfBoundsException("(%d,%d) is outside the grid of %dx%d".formatted(x, y, width, height));
+        }
+    }
+
+    // the up, right, down and left neighbours inside the grid
+    public void forEachOrthogonalNeighbour(int x, int y, CellConsumer consumer) {
+        forEachNeighbour(x, y, DX_ORTHOGONAL, DY_ORTHOGONAL, consumer);
+    }
+
+    // all 8 neighbours inside the grid, including the diagonal ones
+    public void forEachNeighbour(int x, int y, CellConsumer consumer) {
+        forEachNeighbour(x, y, DX_ALL, DY_ALL, consumer);
+    }
+
+    private void forEachNeighbour(int x, int y, int[] dx, int[] dy, CellConsumer consumer) {
+        for (int i = 0; i < dx.length; i++) {
+            int neighbourX = x + dx[i];
+            int neighbourY = y + dy[i];
+            if (inBounds(neighbourX, neighbourY)) {
+                consumer.accept(neighbourX, neighbourY, cells[index(neighbourX, neighbourY)]);
+            }
+        }
+    }
+
+    // the row scans use ByteKernels, so they can use SIMD
+    public boolean rowContains(int y, byte value) {
+        return ByteKernels.INSTANCE.indexOf(cells, index(0, y), index(0, y + 1), value) >= 0;
+    }
+
+    public int countInRow(int y, byte value) {
+        return ByteKernels.INSTANCE.count(cells, index(0, y), index(0, y + 1), value);
+    }
+
+    // for every column: does it contain the value, in one pass over the rows
+    public boolean[] columnsContaining(byte value) {
+        boolean[] columns = new boolean[width];
+        for (int y = 0; y < height; y++) {
+            ByteKernels.INSTANCE.orMatches(cells, index(0, y), value, columns);
+        }
+
+        return columns;
+    }
+
+    public boolean columnContains(int x, byte value) {
+        for (int i = x; i < cells.length; i += width) {
+            if (cells[i] == value) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public boolean rowEquals(int y1, int y2) {
+        return ByteKernels.INSTANCE.equals(cells, index(0, y1), cells, index(0, y2), width);
+    }
+
+    public boolean columnEquals(int x1, int x2) {
+        for (int y = 0; y < height; y++) {
+            if (cells[index(x1, y)] != cells[index(x2, y)]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public int count(byte value) {
+        return ByteKernels.INSTANCE.count(cells, 0, cells.length, value);
+    }
+
+    // columns become rows, so column operations can use the (faster) row versions
+    public Grid transpose() {
+        byte[] transposed = new byte[cells.length];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                transposed[x * height + y] = cells[index(x, y)];
+            }
+        }
+
+        return new Grid(height, width, transposed);
+    }
+
+    // views on a row or column, without copying
+    public CharSequence row(int y) {
+        return new Line(index(0, y), 1, width);
+    }
+
+    public CharSequence column(int x) {
+        return new Line(x, width, height);
+    }
+
+    private class Line implements CharSequence {
+        private final int offset;
+        private final int stride;
+        private final int length;
+
+        private Line(int offset, int stride, int length) {
+            this.offset = offset;
+            this.stride = stride;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return (char) cells[offset + index * stride];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            Objects.checkFromToIndex(start, end, length);
+            return new Line(offset + start * stride, stride, end - start);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                sb.append(charAt(i));
+            }
+            return sb.toString();
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Grid grid && width == grid.width && height == grid.height && Arrays.equals(cells, grid.cells);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * width + Arrays.hashCode(cells);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int y = 0; y < height; y++) {
+            sb.append(row(y)).append('\n');
+        }
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,10 @@
+package aoc2023;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+// generates valid puzzle input for a day, the same scale and random (seed) give the same input
+@FunctionalInterface
+interface InputGenerator {
+    void generate(int scale, Random random, PrintWriter out);
+}
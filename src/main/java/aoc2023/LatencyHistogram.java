@@ -0,0 +1,59 @@
+package aoc2023;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// thread safe latency histogram with power of 2 buckets (in microseconds), so percentiles are upper bounds
+class LatencyHistogram {
+    private final static int NR_BUCKETS = 40;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(NR_BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        long micros = Math.max(nanos / 1000, 1);
+        int bucket = Math.min(63 - Long.numberOfLeadingZeros(micros), NR_BUCKETS - 1);
+
+        buckets.incrementAndGet(bucket);
+        count.incrementAndGet();
+        totalNanos.addAndGet(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public long count() {
+        return count.get();
+    }
+
+    // upper bound (in nanoseconds) of the bucket containing the percentile
+    public long percentile(double percentile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(percentile / 100.0 * total);
+        long cumulative = 0;
+        for (int bucket = 0; bucket < NR_BUCKETS; bucket++) {
+            cumulative += buckets.get(bucket);
+            if (cumulative >= rank) {
+                return Math.min((2L << bucket) * 1000, maxNanos.get());
+            }
+        }
+
+        return maxNanos.get();
+    }
+
+    @Override
+    public String toString() {
+        long total = count.get();
+        return String.format("count %d, mean %.3f, p50 %.3f, p90 %.3f, p99 %.3f, max %.3f (ms)",
+                total,
+                total == 0 ? 0.0 : Statistics.millis(totalNanos.get() / total),
+                Statistics.millis(percentile(50)),
+                Statistics.millis(percentile(90)),
+                Statistics.millis(percentile(99)),
+                Statistics.millis(maxNanos.get()));
+    }
+}
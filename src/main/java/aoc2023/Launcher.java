@@ -0,0 +1,35 @@
+package aoc2023;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+// runs a day on an input file, or on the input on the classpath when no file is given
+// --strategy=<name> chooses the way to solve the parts (see Day.strategies()), like -Dstrategy=<name>
+public class Launcher {
+    private final static String STRATEGY_FLAG = "--strategy=";
+
+    static public void main(String[] args) throws Exception {
+        List<String> strategyFlags = Arrays.stream(args)
+                .filter(arg -> arg.startsWith(STRATEGY_FLAG))
+                .toList();
+        List<String> arguments = Arrays.stream(args)
+                .filter(arg -> !arg.startsWith(STRATEGY_FLAG))
+                .toList();
+
+        if (arguments.isEmpty() || arguments.size() > 2 || strategyFlags.size() > 1) {
+            System.out.println("usage: Launcher [--strategy=<name>] <day> [<input file>]");
+            return;
+        }
+
+        int dayNr = Integer.parseInt(arguments.get(0));
+        Day day = Days.create(dayNr);
+        strategyFlags.forEach(flag -> day.withStrategy(flag.substring(STRATEGY_FLAG.length())));
+
+        if (arguments.size() == 2) {
+            day.main(Path.of(arguments.get(1)));
+        } else {
+            day.main(Days.inputFilename(dayNr));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package aoc2023;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+// a set of longs (e.g. a PackedPoint) with open addressing: the keys are in one array, no object per key
+// linear probing, the table is kept at most half full, 0 marks a free slot so the key 0 is kept aside
+final class LongHashSet {
+    private final static int DEFAULT_CAPACITY = 16;
+
+    private long[] keys;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+
+    LongHashSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    LongHashSet(int expectedSize) {
+        keys = new long[LongHashing.tableSize(expectedSize)];
+        mask = keys.length - 1;
+    }
+
+    // true when the key was not in the set yet
+    public boolean add(long key) {
+        if (key == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int slot = LongHashing.slot(key, mask);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        size++;
+
+        if (2 * size > keys.length) {
+            resize();
+        }
+        return true;
+    }
+
+    public boolean contains(long key) {
+        if (key == 0) {
+            return containsZero;
+        }
+
+        int slot = LongHashing.slot(key, mask);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // keeps the table, for reuse without allocating
+    public void clear() {
+        Arrays.fill(keys, 0);
+        size = 0;
+        containsZero = false;
+    }
+
+    public void forEach(LongConsumer action) {
+        if (containsZero) {
+            action.accept(0);
+        }
+        for (long key : keys) {
+            if (key != 0) {
+                action.accept(key);
+            }
+        }
+    }
+
+    public long[] toArray() {
+        long[] array = new long[size];
+        int i = 0;
+        if (containsZero) {
+            array[i++] = 0;
+        }
+        for (long key : keys) {
+            if (key != 0) {
+                array[i++] = key;
+            }
+        }
+        return array;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        keys = new long[2 * oldKeys.length];
+        mask = keys.length - 1;
+
+        for (long key : oldKeys) {
+            if (key != 0) {
+                int slot = LongHashing.slot(key, mask);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package aoc2023;
+
+// the hashing shared by LongHashSet and LongObjectHashMap
+final class LongHashing {
+    // 2^64 / golden ratio: spreads keys that differ only in the high bits (e.g. the x of a PackedPoint)
+    private final static long FIBONACCI = 0x9E3779B97F4A7C15L;
+    private final static int MAX_CAPACITY = 1 << 30;
+
+    private LongHashing() {
+    }
+
+    // a power of 2, at least twice the expected size (a load factor of 0.5)
+    static int tableSize(int expectedSize) {
+        if (expectedSize < 0 || expectedSize > MAX_CAPACITY / 2) {
+            throw new IllegalArgumentException("expected size %d out of range [0,%d]".formatted(expectedSize, MAX_CAPACITY / 2));
+        }
+
+        return Math.max(2, Integer.highestOneBit(Math.max(1, 2 * expectedSize - 1)) << 1);
+    }
+
+    // the high bits of the product are the best mixed
+    static int slot(long key, int mask) {
+        return (int) ((key * FIBONACCI) >>> (64 - Integer.bitCount(mask))) & mask;
+    }
+}
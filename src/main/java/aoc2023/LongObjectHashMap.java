@@ -0,0 +1,155 @@
+package aoc2023;
+
+import java.util.Arrays;
+
+// a map from longs (e.g. a PackedPoint) to objects with open addressing: keys and values in two arrays, no entry objects
+// linear probing like LongHashSet, the table is kept at most half full, 0 marks a free slot so the key 0 is kept aside
+// null values are not allowed, get returns null for a missing key
+final class LongObjectHashMap<V> {
+    private final static int DEFAULT_CAPACITY = 16;
+
+    @FunctionalInterface
+    interface EntryConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private Object zeroValue;
+
+    LongObjectHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    LongObjectHashMap(int expectedSize) {
+        int tableSize = LongHashing.tableSize(expectedSize);
+        keys = new long[tableSize];
+        values = new Object[tableSize];
+        mask = tableSize - 1;
+    }
+
+    // the previous value, null when the key was not in the map
+    public V put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("null value for key " + key);
+        }
+
+        if (key == 0) {
+            V previous = cast(zeroValue);
+            if (previous == null) {
+                size++;
+            }
+            zeroValue = value;
+            return previous;
+        }
+
+        int slot = LongHashing.slot(key, mask);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                V previous = cast(values[slot]);
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+
+        if (2 * size > keys.length) {
+            resize();
+        }
+        return null;
+    }
+
+    public V get(long key) {
+        if (key == 0) {
+            return cast(zeroValue);
+        }
+
+        int slot = LongHashing.slot(key, mask);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return cast(values[slot]);
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    public V getOrDefault(long key, V defaultValue) {
+        V value = get(key);
+
+        return value == null ? defaultValue : value;
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        zeroValue = null;
+        size = 0;
+    }
+
+    public void forEach(EntryConsumer<? super V> action) {
+        if (zeroValue != null) {
+            action.accept(0, cast(zeroValue));
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) {
+                action.accept(keys[slot], cast(values[slot]));
+            }
+        }
+    }
+
+    public long[] keys() {
+        long[] array = new long[size];
+        int i = 0;
+        if (zeroValue != null) {
+            array[i++] = 0;
+        }
+        for (long key : keys) {
+            if (key != 0) {
+                array[i++] = key;
+            }
+        }
+        return array;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V cast(Object value) {
+        return (V) value;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[2 * oldKeys.length];
+        values = new Object[keys.length];
+        mask = keys.length - 1;
+
+        for (int oldSlot = 0; oldSlot < oldKeys.length; oldSlot++) {
+            if (oldKeys[oldSlot] != 0) {
+                int slot = LongHashing.slot(oldKeys[oldSlot], mask);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[oldSlot];
+                values[slot] = oldValues[oldSlot];
+            }
+        }
+    }
+}
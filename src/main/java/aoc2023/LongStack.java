@@ -0,0 +1,41 @@
+package aoc2023;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// a stack of longs (e.g. a PackedPoint) in a growing array, no boxing
+final class LongStack {
+    private long[] elements;
+    private int size;
+
+    LongStack() {
+        this(16);
+    }
+
+    LongStack(int initialCapacity) {
+        elements = new long[Math.max(1, initialCapacity)];
+    }
+
+    public void push(long element) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, 2 * size);
+        }
+        elements[size++] = element;
+    }
+
+    public long pop() {
+        if (size == 0) {
+            throw new NoSuchElementException("stack is empty");
+        }
+
+        return elements[--size];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+}
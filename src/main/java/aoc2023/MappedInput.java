@@ -0,0 +1,132 @@
+package aoc2023;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+// the input file memory mapped, the lines are offsets into the mapped bytes (so no String per line)
+// only for ASCII input (as all puzzle inputs are) and files up to 2GB (the limit of a MappedByteBuffer)
+public class MappedInput {
+    private final ByteBuffer bytes;
+    private final int[] lineStarts;
+    private final int[] lineEnds;
+    // one instance, so a ParsedDay sees the same input for both parts and parses it once
+    private final List<String> lines = new AbstractList<>() {
+        @Override
+        public String get(int index) {
+            return lineAsString(index);
+        }
+
+        @Override
+        public int size() {
+            return nrLines();
+        }
+    };
+
+    private MappedInput(ByteBuffer bytes, int[] lineStarts, int[] lineEnds) {
+        this.bytes = bytes;
+        this.lineStarts = lineStarts;
+        this.lineEnds = lineEnds;
+    }
+
+    public static MappedInput of(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("file too large to map: " + path + " (" + channel.size() + " bytes)");
+            }
+
+            // the mapping stays valid after closing the channel
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return of(buffer);
+        }
+    }
+
+    static MappedInput of(ByteBuffer bytes) {
+        int[] lineStarts = new int[1024];
+        int[] lineEnds = new int[1024];
+        int nrLines = 0;
+
+        int limit = bytes.limit();
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && bytes.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int next = lineEnd + 1;
+
+            // same as Files.lines(): strip "\r\n" as well
+            if (lineEnd > lineStart && bytes.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+
+            if (nrLines == lineStarts.length) {
+                lineStarts = Arrays.copyOf(lineStarts, nrLines * 2);
+                lineEnds = Arrays.copyOf(lineEnds, nrLines * 2);
+            }
+            lineStarts[nrLines] = lineStart;
+            lineEnds[nrLines] = lineEnd;
+            nrLines++;
+
+            lineStart = next;
+        }
+
+        return new MappedInput(bytes, Arrays.copyOf(lineStarts, nrLines), Arrays.copyOf(lineEnds, nrLines));
+    }
+
+    public int nrLines() {
+        return lineStarts.length;
+    }
+
+    public int nrBytes() {
+        return bytes.limit();
+    }
+
+    // all mapped bytes, read only
+    public ByteBuffer bytes() {
+        return bytes.asReadOnlyBuffer();
+    }
+
+    public int lineLength(int line) {
+        return lineEnds[line] - lineStarts[line];
+    }
+
+    public byte byteAt(int line, int index) {
+        return bytes.get(lineStarts[line] + index);
+    }
+
+    public boolean regionMatches(int line, int index, String s) {
+        if (index < 0 || index + s.length() > lineLength(line)) {
+            return false;
+        }
+
+        int offset = lineStarts[line] + index;
+        for (int i = 0; i < s.length(); i++) {
+            if (bytes.get(offset + i) != s.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public String lineAsString(int line) {
+        byte[] lineBytes = new byte[lineLength(line)];
+        bytes.get(lineStarts[line], lineBytes);
+
+        return new String(lineBytes, StandardCharsets.ISO_8859_1);
+    }
+
+    // compatibility with the List<String> API, the Strings are only created when a line is requested
+    public List<String> lines() {
+        return lines;
+    }
+}
@@ -0,0 +1,67 @@
+package aoc2023;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+// runs a solver: first warmup iterations until the timings are stable, then the measured iterations
+final class Measurement {
+    // the timings are stable when the last STABLE_WINDOW timings are within STABLE_SPREAD of each other
+    private final static int STABLE_WINDOW = 5;
+    private final static double STABLE_SPREAD = 0.10;
+
+    private Measurement() {
+    }
+
+    public static PartResult of(int part, Supplier<String> solver, int minWarmup, int maxWarmup, int nrIterations) {
+        List<Long> warmupNanos = new ArrayList<>();
+        while (warmupNanos.size() < maxWarmup && (warmupNanos.size() < minWarmup || !isStable(warmupNanos))) {
+            long start = System.nanoTime();
+            solver.get();
+            warmupNanos.add(System.nanoTime() - start);
+        }
+
+        String result = null;
+        long[] nanos = new long[nrIterations];
+
+        Probe.resetPeakHeap();
+        Probe start = Probe.now();
+        for (int i = 0; i < nrIterations; i++) {
+            long iterationStart = System.nanoTime();
+            result = solver.get();
+            nanos[i] = System.nanoTime() - iterationStart;
+        }
+        Probe end = Probe.now();
+
+        return new PartResult(part, result, warmupNanos.size(), Statistics.of(nanos),
+                (end.allocatedBytes() - start.allocatedBytes()) / nrIterations,
+                end.gcCount() - start.gcCount(),
+                end.gcMillis() - start.gcMillis(),
+                Probe.peakHeap(),
+                false);
+    }
+
+    // use -Dmeasure=true to repeat, with -Dwarmup=n (minimum #warmup iterations), -Dwarmup.max=n and -Diterations=n
+    public static PartResult of(int part, Supplier<String> solver) {
+        if (Boolean.getBoolean("measure")) {
+            return of(part, solver,
+                    Integer.getInteger("warmup", 5),
+                    Integer.getInteger("warmup.max", 50),
+                    Integer.getInteger("iterations", 20));
+        } else {
+            return of(part, solver, 0, 0, 1);
+        }
+    }
+
+    private static boolean isStable(List<Long> nanos) {
+        if (nanos.size() < STABLE_WINDOW) {
+            return false;
+        }
+
+        List<Long> window = nanos.subList(nanos.size() - STABLE_WINDOW, nanos.size());
+        long min = window.stream().min(Long::compare).orElseThrow();
+        long max = window.stream().max(Long::compare).orElseThrow();
+
+        return max - min <= STABLE_SPREAD * min;
+    }
+}
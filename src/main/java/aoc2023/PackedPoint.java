@@ -0,0 +1,43 @@
+package aoc2023;
+
+// a point packed in a long, the key of LongHashSet and LongObjectHashMap: no object per point
+// 30 bits for x, 30 bits for y (both signed) and 4 bits for a tag, e.g. the ordinal of a direction
+final class PackedPoint {
+    private final static int COORDINATE_BITS = 30;
+    private final static int TAG_BITS = 4;
+    private final static int MIN_COORDINATE = -(1 << (COORDINATE_BITS - 1));
+    private final static int MAX_COORDINATE = (1 << (COORDINATE_BITS - 1)) - 1;
+    private final static long COORDINATE_MASK = (1L << COORDINATE_BITS) - 1;
+    private final static long TAG_MASK = (1L << TAG_BITS) - 1;
+
+    private PackedPoint() {
+    }
+
+    public static long of(int x, int y) {
+        return of(x, y, 0);
+    }
+
+    public static long of(int x, int y, int tag) {
+        if (x < MIN_COORDINATE || x > MAX_COORDINATE || y < MIN_COORDINATE || y > MAX_COORDINATE) {
+            throw new IllegalArgumentException("point (%d,%d) out of range [%d,%d]".formatted(x, y, MIN_COORDINATE, MAX_COORDINATE));
+        }
+        if (tag < 0 || tag > TAG_MASK) {
+            throw new IllegalArgumentException("tag %d out of range [0,%d]".formatted(tag, TAG_MASK));
+        }
+
+        return (x & COORDINATE_MASK) << (COORDINATE_BITS + TAG_BITS) | (y & COORDINATE_MASK) << TAG_BITS | tag;
+    }
+
+    // the shifts right are arithmetic, so negative coordinates come back
+    public static int x(long point) {
+        return (int) (point >> (COORDINATE_BITS + TAG_BITS));
+    }
+
+    public static int y(long point) {
+        return (int) (point << COORDINATE_BITS >> (COORDINATE_BITS + TAG_BITS));
+    }
+
+    public static int tag(long point) {
+        return (int) (point & TAG_MASK);
+    }
+}
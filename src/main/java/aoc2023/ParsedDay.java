@@ -0,0 +1,106 @@
+package aoc2023;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static aoc2023.Statistics.millis;
+
+// a day that parses the input into a model only once, the model is shared by part 1 and part 2
+public abstract class ParsedDay<M> extends Day {
+    private record Parsed<M>(List<String> input, M model) {
+    }
+
+    // the model of the last parsed input
+    private volatile Parsed<M> parsed;
+
+    abstract M parse(List<String> input);
+
+    abstract String solvePart1(M model);
+
+    abstract String solvePart2(M model);
+
+    // models that are changed while solving must return a copy, so the parts don't see each other's changes
+    M copy(M model) {
+        return model;
+    }
+
+    @Override
+    public final String doPart1(List<String> input) {
+        return solvePart1(model(input));
+    }
+
+    @Override
+    public final String doPart2(List<String> input) {
+        return solvePart2(model(input));
+    }
+
+    @Override
+    void prepare(List<String> input) {
+        parsed(input);
+    }
+
+    // the model from the snapshot of the input, or parsed from the text and written as snapshot for the next run
+    @Override
+    DayResult solveWithSnapshot(Path path, Snapshots snapshots) throws IOException {
+        @SuppressWarnings("unchecked")
+        SnapshotDay<M> snapshotDay = (SnapshotDay<M>) this;
+        String day = getClass().getSimpleName();
+        Path snapshotPath = snapshots.path(day, path);
+
+        long start = System.nanoTime();
+        Optional<M> snapshot = snapshots.load(day, path, snapshotDay);
+        if (snapshot.isPresent()) {
+            long loadNanos = System.nanoTime() - start;
+            System.out.printf("snapshot loaded: %s, duration (ms): %.3f%n", snapshotPath.getFileName(), millis(loadNanos));
+
+            return solve(snapshot.get(), loadNanos);
+        }
+
+        List<String> input = readInput(path);
+        start = System.nanoTime();
+        M model = parsed(input);
+        long parseNanos = System.nanoTime() - start;
+        System.out.printf("parse duration (ms): %.3f%n", millis(parseNanos));
+
+        snapshots.save(day, path, model, snapshotDay);
+        System.out.println("snapshot written: " + snapshotPath.getFileName());
+
+        return solve(model, parseNanos);
+    }
+
+    // without the input text there is no input hash, so the result cache is not used (and the report has no hash)
+    private DayResult solve(M model, long parseNanos) {
+        return dayResult(parseNanos, null, runParts(null,
+                () -> solvePart(1, -1, () -> solvePart1(copy(model))),
+                () -> solvePart(2, -1, () -> solvePart2(copy(model)))
+        ));
+    }
+
+    M model(List<String> input) {
+        return copy(parsed(input));
+    }
+
+    private M parsed(List<String> input) {
+        Parsed<M> current = parsed;
+
+        // same input (instance) as the last time: reuse the model
+        if (current == null || current.input() != input) {
+            DayEvents.Parse event = new DayEvents.Parse();
+            event.begin();
+
+            current = new Parsed<>(input, parse(input));
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.day = getClass().getSimpleName();
+                event.nrLines = input.size();
+                event.commit();
+            }
+            parsed = current;
+        }
+
+        return current.model();
+    }
+}
@@ -0,0 +1,30 @@
+package aoc2023;
+
+// the result of a part with its measurements (per iteration when repeated, except the GC and heap numbers)
+// the allocation is of the thread solving the part, the GC and heap numbers are of the whole JVM (see Probe):
+// they include everything else running at the same time, like the other part with -Dconcurrent=true
+// cached: the result came from the result cache, so the measurements are of the cache lookup and not of solving
+public record PartResult(int part, String result, int nrWarmupIterations, Statistics statistics,
+                         long allocatedBytes, long gcCount, long gcMillis, long peakHeapBytes, boolean cached) {
+    public PartResult asCached() {
+        return new PartResult(part, result, nrWarmupIterations, statistics, allocatedBytes, gcCount, gcMillis, peakHeapBytes, true);
+    }
+
+    public void print() {
+        System.out.println("\npart " + part + ": " + result);
+
+        if (statistics.nrIterations() == 1) {
+            System.out.printf("duration (ms): %.3f%n", Statistics.millis(statistics.median()));
+        } else {
+            System.out.println("#warmup iterations: " + nrWarmupIterations);
+            System.out.println("duration (ms): " + statistics);
+        }
+
+        System.out.printf("allocated (MB): %.3f, JVM-wide #gc: %d, gc time (ms): %d, peak heap (MB): %.3f%n",
+                megabytes(allocatedBytes), gcCount, gcMillis, megabytes(peakHeapBytes));
+    }
+
+    private static double megabytes(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+}
@@ -0,0 +1,37 @@
+package aoc2023;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+// snapshot of the counters of the current thread and the JVM, the difference of 2 snapshots is what happened in between
+record Probe(long nanoTime, long allocatedBytes, long gcCount, long gcMillis) {
+    private final static com.sun.management.ThreadMXBean THREAD_MX_BEAN = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static Probe now() {
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(gc.getCollectionCount(), 0);
+            gcMillis += Math.max(gc.getCollectionTime(), 0);
+        }
+
+        // only counts the allocations of the current thread, the days don't use other threads
+        return new Probe(System.nanoTime(), THREAD_MX_BEAN.getCurrentThreadAllocatedBytes(), gcCount, gcMillis);
+    }
+
+    public static void resetPeakHeap() {
+        ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    // sum of the peaks of the heap pools since the last reset (so an upper bound)
+    public static long peakHeap() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+    }
+}
@@ -0,0 +1,161 @@
+package aoc2023;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// results on disk, one file per result, named after the hash of the day, the part and the input
+// opt-in with -Dcache.dir=<directory>, -Dcache.maxBytes limits the total size (default 1 MB)
+// the modification time of a file is its last use, the least recently used results are evicted first
+final class ResultCache {
+    private final static long DEFAULT_MAX_BYTES = 1024 * 1024;
+
+    private final Path directory;
+    private final long maxBytes;
+
+    ResultCache(Path directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+    }
+
+    static Optional<ResultCache> fromSystemProperties() {
+        String directory = System.getProperty("cache.dir");
+        if (directory == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new ResultCache(Path.of(directory), Long.getLong("cache.maxBytes", DEFAULT_MAX_BYTES)));
+    }
+
+    // the lines are hashed with a '\n' after each line, so '\r\n' files have the same hash
+    static String hash(Stream<String> lines) {
+        MessageDigest digest = sha256();
+        lines.forEach(line -> {
+            digest.update(line.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        });
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // the same hash as of the lines of the bytes (split as Files.lines() does), without a String per line
+    // for the memory mapped input, see MappedInput
+    static String hash(ByteBuffer bytes) {
+        MessageDigest digest = sha256();
+        ByteBuffer line = bytes.duplicate();
+
+        int limit = bytes.limit();
+        int lineStart = bytes.position();
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && bytes.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int next = lineEnd + 1;
+            if (lineEnd > lineStart && bytes.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+
+            line.limit(lineEnd).position(lineStart);
+            digest.update(line);
+            digest.update((byte) '\n');
+            lineStart = next;
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    static String key(String day, int part, String inputHash) {
+        MessageDigest digest = sha256();
+        digest.update((day + ":" + part + ":" + inputHash).getBytes(StandardCharsets.UTF_8));
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public Optional<String> get(String key) {
+        Path file = directory.resolve(key);
+        try {
+            String result = Files.readString(file);
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+
+            return Optional.of(result);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void put(String key, String result) {
+        try {
+            Files.createDirectories(directory);
+
+            // write and rename, so concurrent readers never see a partial result
+            Path tempFile = Files.createTempFile(directory, key, ".tmp");
+            Files.writeString(tempFile, result);
+            Files.move(tempFile, directory.resolve(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            evict();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Entry(Path file, long size, FileTime lastUsed) {
+    }
+
+    private void evict() throws IOException {
+        List<Entry> entries;
+        try (Stream<Path> files = Files.list(directory)) {
+            entries = files
+                    .filter(file -> !file.getFileName().toString().endsWith(".tmp"))
+                    .map(ResultCache::entry)
+                    .flatMap(Optional::stream)
+                    .sorted(Comparator.comparing(Entry::lastUsed))
+                    .toList();
+        }
+
+        long totalSize = entries.stream()
+                .mapToLong(Entry::size)
+                .sum();
+
+        for (Entry entry : entries) {
+            if (totalSize <= maxBytes) {
+                break;
+            }
+            Files.deleteIfExists(entry.file());
+            totalSize -= entry.size();
+        }
+    }
+
+    // empty when another process evicted the file in the meantime
+    private static Optional<Entry> entry(Path file) {
+        try {
+            return Optional.of(new Entry(file, Files.size(file), Files.getLastModifiedTime(file)));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package aoc2023;
+
+import java.util.Arrays;
+
+final class ScalarByteKernels implements ByteKernels {
+    @Override
+    public int indexOf(byte[] bytes, int from, int to, byte value) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public boolean equals(byte[] a, int aFrom, byte[] b, int bFrom, int length) {
+        return Arrays.equals(a, aFrom, aFrom + length, b, bFrom, bFrom + length);
+    }
+
+    @Override
+    public void orMatches(byte[] bytes, int from, byte value, boolean[] matches) {
+        for (int i = 0; i < matches.length; i++) {
+            matches[i] |= bytes[from + i] == value;
+        }
+    }
+
+    @Override
+    public int count(byte[] bytes, int from, int to, byte value) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == value) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,191 @@
+package aoc2023;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import static aoc2023.Statistics.millis;
+
+record ScalingPoint(int scale, long nrBytes, long size, long parseNanos, long part1Nanos, long part2Nanos) {
+    public long totalNanos() {
+        return parseNanos + part1Nanos + part2Nanos;
+    }
+}
+
+// the error is not null when a size could not be solved, the points are the sizes before that
+record ScalingCurveResult(String day, List<ScalingPoint> points, double exponent, double part1Exponent, double part2Exponent,
+                          Throwable error) {
+}
+
+// runs days on generated input of doubling sizes and fits the growth exponent: time ~ size^exponent
+// the size is the number of input bytes, except for day 6 where it is the race time (the input hardly grows)
+// usage: ScalingCurve [<day> ...] (default: all days), options:
+//   -Dscaling.steps=n       number of sizes (default 5)
+//   -Dscaling.maxMillis=n   stop doubling when a run takes longer (default 2000)
+//   -Dscaling.threshold=x   flag days with a larger exponent (default 1.5)
+//   -Dscaling.csv=file      the time/size table (default scaling.csv)
+public class ScalingCurve {
+    private final static int NR_REPETITIONS = 3;
+    private final static int DEFAULT_START_SCALE = 500;
+    // grid days: scale is the width/height, day 6: the race time, day 13: the number of patterns
+    private final static Map<Integer, Integer> START_SCALES = Map.of(
+            3, 32,
+            6, 1_000_000,
+            10, 32,
+            11, 32,
+            13, 50,
+            14, 32,
+            16, 32
+    );
+
+    static ScalingCurveResult run(int dayNr, int nrSteps, long maxMillis) {
+        int scale = START_SCALES.getOrDefault(dayNr, DEFAULT_START_SCALE);
+        List<ScalingPoint> points = new ArrayList<>();
+        Throwable error = null;
+
+        try {
+            // warmup on the smallest size
+            List<String> warmupInput = Generators.generate(dayNr, scale, 1);
+            for (int i = 0; i < NR_REPETITIONS; i++) {
+                measure(dayNr, scale, warmupInput);
+            }
+
+            for (int step = 0; step < nrSteps; step++, scale *= 2) {
+                List<String> input = Generators.generate(dayNr, scale, 1);
+
+                // the fastest of a few runs, a single run when it is slow anyway
+                ScalingPoint point = measure(dayNr, scale, input);
+                for (int i = 1; i < NR_REPETITIONS && millis(point.totalNanos()) < maxMillis / 10.0; i++) {
+                    ScalingPoint next = measure(dayNr, scale, input);
+                    if (next.totalNanos() < point.totalNanos()) {
+                        point = next;
+                    }
+                }
+                points.add(point);
+
+                if (millis(point.totalNanos()) > maxMillis) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            error = new IllegalStateException("scale %d: %s".formatted(scale, e), e);
+        }
+
+        return new ScalingCurveResult(
+                "Day%02d".formatted(dayNr),
+                points,
+                exponent(points, ScalingPoint::totalNanos),
+                exponent(points, ScalingPoint::part1Nanos),
+                exponent(points, ScalingPoint::part2Nanos),
+                error
+        );
+    }
+
+    private static ScalingPoint measure(int dayNr, int scale, List<String> input) {
+        Day day = Days.create(dayNr);
+
+        long start = System.nanoTime();
+        day.prepare(input);
+        long parseNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        day.doPart1(input);
+        long part1Nanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        day.doPart2(input);
+        long part2Nanos = System.nanoTime() - start;
+
+        long nrBytes = input.stream()
+                .mapToLong(line -> line.length() + 1)
+                .sum();
+        long size = dayNr == 6 ? scale : nrBytes;
+
+        return new ScalingPoint(scale, nrBytes, size, parseNanos, part1Nanos, part2Nanos);
+    }
+
+    // least squares fit of log(time) = exponent * log(size) + c
+    static double exponent(List<ScalingPoint> points, ToLongFunction<ScalingPoint> nanos) {
+        if (points.size() < 2) {
+            return Double.NaN;
+        }
+
+        double n = points.size();
+        double sumX = 0;
+        double sumY = 0;
+        double sumXY = 0;
+        double sumXX = 0;
+        for (ScalingPoint point : points) {
+            double x = Math.log(point.size());
+            double y = Math.log(Math.max(nanos.applyAsLong(point), 1));
+            sumX += x;
+            sumY += y;
+            sumXY += x * y;
+            sumXX += x * x;
+        }
+
+        return (n * sumXY - sumX * sumY) / (n * sumXX - sumX * sumX);
+    }
+
+    static void writeCsv(List<ScalingCurveResult> results, PrintWriter out) {
+        out.println("day,scale,bytes,size,parse_ms,part1_ms,part2_ms,total_ms");
+        // a decimal point in every locale, a decimal comma would add columns
+        results.forEach(result -> result.points().forEach(point -> out.print(String.format(Locale.ROOT, "%s,%d,%d,%d,%.3f,%.3f,%.3f,%.3f%n",
+                result.day(),
+                point.scale(),
+                point.nrBytes(),
+                point.size(),
+                millis(point.parseNanos()),
+                millis(point.part1Nanos()),
+                millis(point.part2Nanos()),
+                millis(point.totalNanos())))));
+    }
+
+    private static List<ScalingCurveResult> runAll(Collection<Integer> dayNrs, int nrSteps, long maxMillis) {
+        List<ScalingCurveResult> results = new ArrayList<>();
+
+        dayNrs.forEach(dayNr -> {
+            System.out.printf("running day %d%n", dayNr);
+            results.add(run(dayNr, nrSteps, maxMillis));
+        });
+
+        return results;
+    }
+
+    static public void main(String[] args) throws IOException {
+        int nrSteps = Integer.getInteger("scaling.steps", 5);
+        long maxMillis = Long.getLong("scaling.maxMillis", 2000);
+        double threshold = Double.parseDouble(System.getProperty("scaling.threshold", "1.5"));
+        Path csv = Path.of(System.getProperty("scaling.csv", "scaling.csv"));
+
+        Collection<Integer> dayNrs = args.length == 0 ?
+                Days.dayNrs() :
+                List.of(args).stream().map(Integer::valueOf).toList();
+
+        List<ScalingCurveResult> results = runAll(dayNrs, nrSteps, maxMillis);
+
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(csv))) {
+            writeCsv(results, out);
+        }
+
+        System.out.printf("%n%-6s %8s %10s %10s %10s%n", "day", "#sizes", "exponent", "part 1", "part 2");
+        results.forEach(result -> System.out.printf("%-6s %8d %10.2f %10.2f %10.2f%s%n",
+                result.day(),
+                result.points().size(),
+                result.exponent(),
+                result.part1Exponent(),
+                result.part2Exponent(),
+                result.exponent() > threshold ? "  <-- above " + threshold : ""));
+        results.stream()
+                .filter(result -> result.error() != null)
+                .forEach(result -> System.out.printf("%s stopped: %s%n", result.day(), result.error().getMessage()));
+        System.out.println("\ntime/size table: " + csv.toAbsolutePath());
+    }
+}
@@ -0,0 +1,9 @@
+package aoc2023;
+
+// for days that can store their parsed model in a binary snapshot, so a later run does not parse the text again
+// ParsedDay uses these methods when a day implements this interface and -Dsnapshot.dir is set, see Snapshots
+interface SnapshotDay<M> {
+    void writeSnapshot(M model, SnapshotWriter out);
+
+    M readSnapshot(SnapshotReader in);
+}
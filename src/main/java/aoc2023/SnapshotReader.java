@@ -0,0 +1,68 @@
+package aoc2023;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// reads the values written by SnapshotWriter, in the same order, from a (memory mapped) buffer
+final class SnapshotReader {
+    private final ByteBuffer bytes;
+
+    SnapshotReader(ByteBuffer bytes) {
+        this.bytes = bytes;
+    }
+
+    public int readInt() {
+        return bytes.getInt();
+    }
+
+    public long readLong() {
+        return bytes.getLong();
+    }
+
+    public byte[] readBytes() {
+        byte[] values = new byte[readCount(Byte.BYTES)];
+        bytes.get(values);
+
+        return values;
+    }
+
+    public long[] readLongs() {
+        long[] values = new long[readCount(Long.BYTES)];
+        bytes.asLongBuffer().get(values);
+        bytes.position(bytes.position() + values.length * Long.BYTES);
+
+        return values;
+    }
+
+    public List<Integer> readInts() {
+        int size = readCount(Integer.BYTES);
+        List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readInt());
+        }
+
+        return values;
+    }
+
+    public String readString() {
+        return new String(readBytes(), StandardCharsets.ISO_8859_1);
+    }
+
+    // the number of elements that follow, each at least elementBytes long
+    // a corrupt count is not allocated, but is a BufferUnderflowException
+    public int readCount(int elementBytes) {
+        int length = readInt();
+        if (length < 0 || (long) length * elementBytes > bytes.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
+        return length;
+    }
+
+    public boolean hasRemaining() {
+        return bytes.hasRemaining();
+    }
+}
@@ -0,0 +1,68 @@
+package aoc2023;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// writes the values of a snapshot, big endian (the byte order of SnapshotReader)
+// arrays, lists and strings are written with their length first, strings as ASCII
+final class SnapshotWriter {
+    private final DataOutputStream out;
+
+    SnapshotWriter(DataOutputStream out) {
+        this.out = out;
+    }
+
+    public SnapshotWriter writeInt(int value) {
+        try {
+            out.writeInt(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return this;
+    }
+
+    public SnapshotWriter writeLong(long value) {
+        try {
+            out.writeLong(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return this;
+    }
+
+    public SnapshotWriter writeBytes(byte[] values) {
+        writeInt(values.length);
+        try {
+            out.write(values);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return this;
+    }
+
+    public SnapshotWriter writeLongs(long[] values) {
+        writeInt(values.length);
+        for (long value : values) {
+            writeLong(value);
+        }
+
+        return this;
+    }
+
+    public SnapshotWriter writeInts(List<Integer> values) {
+        writeInt(values.size());
+        values.forEach(this::writeInt);
+
+        return this;
+    }
+
+    public SnapshotWriter writeString(String value) {
+        return writeBytes(value.getBytes(StandardCharsets.ISO_8859_1));
+    }
+}
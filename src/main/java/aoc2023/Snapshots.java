@@ -0,0 +1,91 @@
+package aoc2023;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+// binary snapshots of parsed models, one file per day and input file, read memory mapped
+// opt-in with -Dsnapshot.dir=<directory>, see SnapshotDay
+// the header has the size and modification time of the input, a snapshot of a changed input is not used (and rewritten)
+// a truncated or corrupt snapshot is not used either (and rewritten)
+final class Snapshots {
+    // "AOCS"
+    private final static int MAGIC = 0x414f4353;
+    private final static int VERSION = 2;
+
+    private final Path directory;
+
+    Snapshots(Path directory) {
+        this.directory = directory;
+    }
+
+    static Optional<Snapshots> fromSystemProperties() {
+        String directory = System.getProperty("snapshot.dir");
+        if (directory == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new Snapshots(Path.of(directory)));
+    }
+
+    Path path(String day, Path input) {
+        return directory.resolve(day + "-" + input.getFileName() + ".snapshot");
+    }
+
+    // empty when there is no (readable) snapshot of this input (or of an older version of it)
+    public <M> Optional<M> load(String day, Path input, SnapshotDay<M> snapshotDay) throws IOException {
+        Path file = path(day, input);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            // the mapping stays valid after closing the channel
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            SnapshotReader in = new SnapshotReader(buffer);
+
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || !in.readString().equals(day) ||
+                in.readLong() != Files.size(input) || in.readLong() != Files.getLastModifiedTime(input).toMillis()) {
+                return Optional.empty();
+            }
+
+            M model = snapshotDay.readSnapshot(in);
+            if (in.hasRemaining()) {
+                return Optional.empty();
+            }
+
+            return Optional.of(model);
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            // a length, size or enum ordinal read from a corrupt snapshot
+            return Optional.empty();
+        }
+    }
+
+    public <M> void save(String day, Path input, M model, SnapshotDay<M> snapshotDay) throws IOException {
+        Files.createDirectories(directory);
+        Path file = path(day, input);
+
+        // write and rename, so concurrent readers never see a partial snapshot
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+            SnapshotWriter writer = new SnapshotWriter(out);
+            writer.writeInt(MAGIC)
+                    .writeInt(VERSION)
+                    .writeString(day)
+                    .writeLong(Files.size(input))
+                    .writeLong(Files.getLastModifiedTime(input).toMillis());
+
+            snapshotDay.writeSnapshot(model, writer);
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,91 @@
+package aoc2023;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// a cooperative deadline and cancellation for solving a part, with a progress callback
+// the long running loops of the days call checkpoint() (per cycle, or per batch of cheap steps), which throws a CancellationException
+// when the deadline of the part has passed or the budget is cancelled (from any thread)
+// the budget of the running part is kept per thread, so the models don't need a reference to it
+// -Ddeadline.ms=n sets a deadline for every part (default: none), -Dprogress.ms=n the progress interval (default 1000)
+final class SolveBudget {
+    @FunctionalInterface
+    interface ProgressListener {
+        void progress(long nrIterations, long elapsedNanos);
+    }
+
+    private final static ThreadLocal<Run> CURRENT = new ThreadLocal<>();
+
+    // 0: no deadline
+    private final long timeoutNanos;
+    private final long progressIntervalNanos;
+    // null: no progress reporting
+    private final ProgressListener listener;
+    private volatile boolean cancelled;
+
+    SolveBudget(long timeoutMillis, long progressIntervalMillis, ProgressListener listener) {
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        this.progressIntervalNanos = TimeUnit.MILLISECONDS.toNanos(progressIntervalMillis);
+        this.listener = listener;
+    }
+
+    static SolveBudget fromSystemProperties() {
+        return fromSystemProperties(null);
+    }
+
+    static SolveBudget fromSystemProperties(ProgressListener listener) {
+        return new SolveBudget(Long.getLong("deadline.ms", 0), Long.getLong("progress.ms", 1000), listener);
+    }
+
+    // a solve on one thread, the iterations are counted per solve
+    private final class Run {
+        private final long startNanos = System.nanoTime();
+        private long nrIterations;
+        private long lastProgressNanos = startNanos;
+
+        private void check(long iterations) {
+            nrIterations += iterations;
+            if (cancelled) {
+                throw new CancellationException("cancelled after %d iterations".formatted(nrIterations));
+            }
+
+            long now = System.nanoTime();
+            if (timeoutNanos > 0 && now - startNanos > timeoutNanos) {
+                throw new CancellationException("deadline of %d ms passed after %d iterations".formatted(TimeUnit.NANOSECONDS.toMillis(timeoutNanos), nrIterations));
+            }
+            if (listener != null && now - lastProgressNanos >= progressIntervalNanos) {
+                lastProgressNanos = now;
+                listener.progress(nrIterations, now - startNanos);
+            }
+        }
+    }
+
+    // runs the solver on the current thread, the deadline starts now
+    public <T> T run(Supplier<T> solver) {
+        Run previous = CURRENT.get();
+        CURRENT.set(new Run());
+        try {
+            return solver.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    // stops the running and later solves at their next checkpoint
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public static void checkpoint() {
+        checkpoint(1);
+    }
+
+    // for loops with cheap iterations that only check every so many iterations
+    public static void checkpoint(long nrIterations) {
+        Run run = CURRENT.get();
+        if (run != null) {
+            run.check(nrIterations);
+        }
+    }
+}
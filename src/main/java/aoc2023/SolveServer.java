@@ -0,0 +1,126 @@
+package aoc2023;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.stream.Collectors;
+
+// a local HTTP service to solve many inputs in one warm JVM:
+//   POST /solve/<day>[?part=1|2] with the input as body, responds with the answers
+//   GET /stats for the number of requests and the latencies per day
+// use -Dport=n (default 8080) and -Dthreads=n (default: #processors)
+// use -Ddeadline.ms=n to stop a part that takes too long (503 response), see SolveBudget
+public class SolveServer {
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<Integer, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+
+    public SolveServer(int port, int nrThreads) throws IOException {
+        ThreadFactory threadFactory = Thread.ofPlatform().name("solver-", 1).factory();
+        executor = Executors.newFixedThreadPool(nrThreads, threadFactory);
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(executor);
+        server.createContext("/solve/", this::handleSolve);
+        server.createContext("/stats", this::handleStats);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    private void handleSolve(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("POST")) {
+                respond(exchange, 405, "use POST\n");
+                return;
+            }
+
+            int dayNr;
+            Day day;
+            try {
+                dayNr = Integer.parseInt(exchange.getRequestURI().getPath().substring("/solve/".length()));
+                day = Days.create(dayNr);
+            } catch (IllegalArgumentException e) {
+                respond(exchange, 404, "unknown day: " + exchange.getRequestURI().getPath() + "\n");
+                return;
+            }
+
+            String query = exchange.getRequestURI().getQuery();
+            if (query != null && !query.equals("part=1") && !query.equals("part=2")) {
+                respond(exchange, 400, "invalid query: " + query + ", use part=1 or part=2\n");
+                return;
+            }
+            boolean part1 = query == null || !query.equals("part=2");
+            boolean part2 = query == null || !query.equals("part=1");
+            List<String> input = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+
+            long start = System.nanoTime();
+            try {
+                StringBuilder response = new StringBuilder();
+                if (part1) {
+                    response.append("part 1: ").append(day.solvePart(1, input.size(), () -> day.doPart1(input))).append('\n');
+                }
+                if (part2) {
+                    response.append("part 2: ").append(day.solvePart(2, input.size(), () -> day.doPart2(input))).append('\n');
+                }
+
+                respond(exchange, 200, response.toString());
+            } catch (CancellationException e) {
+                respond(exchange, 503, "cancelled: " + e.getMessage() + "\n");
+            } catch (RuntimeException e) {
+                respond(exchange, 500, "error: " + e + "\n");
+            } finally {
+                latencies.computeIfAbsent(dayNr, nr -> new LatencyHistogram()).record(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String stats = latencies.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .map(dayNrLatencies -> "day " + dayNrLatencies.getKey() + ": " + dayNrLatencies.getValue())
+                    .collect(Collectors.joining("\n", "", "\n"));
+
+            respond(exchange, 200, stats);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    static public void main(String[] args) throws IOException {
+        SolveServer solveServer = new SolveServer(Integer.getInteger("port", 8080), Integer.getInteger("threads", Runtime.getRuntime().availableProcessors()));
+        solveServer.start();
+
+        System.out.println("listening on http://localhost:" + solveServer.port() + "/solve/<day>");
+    }
+}
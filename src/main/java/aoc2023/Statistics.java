@@ -0,0 +1,38 @@
+package aoc2023;
+
+import java.util.Arrays;
+
+// timing statistics (in nanoseconds) of a number of iterations
+record Statistics(int nrIterations, long min, long median, long p90, long p99, long max) {
+    public static Statistics of(long[] nanos) {
+        if (nanos.length == 0) {
+            throw new IllegalArgumentException("no timings");
+        }
+
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+
+        return new Statistics(sorted.length,
+                sorted[0],
+                percentile(sorted, 50),
+                percentile(sorted, 90),
+                percentile(sorted, 99),
+                sorted[sorted.length - 1]);
+    }
+
+    // nearest-rank percentile
+    private static long percentile(long[] sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("min %.3f, median %.3f, p90 %.3f, p99 %.3f, max %.3f (#iterations: %d)",
+                millis(min), millis(median), millis(p90), millis(p99), millis(max), nrIterations);
+    }
+
+    static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,11 @@
+package aoc2023;
+
+import java.util.stream.Stream;
+
+// for days that solve a part in one pass over the lines, so the input does not need to fit in memory
+// Day.main() uses these methods when a day implements this interface
+interface StreamingDay {
+    String doPart1(Stream<String> input);
+
+    String doPart2(Stream<String> input);
+}
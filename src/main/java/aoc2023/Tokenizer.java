@@ -0,0 +1,241 @@
+package aoc2023;
+
+import java.util.Arrays;
+
+// a cursor over a line that reads numbers and tokens in place: no regexes, no split arrays and no boxing
+// one instance can be reused for many lines with reset()
+// all read and skip methods skip whitespace first
+final class Tokenizer {
+    private CharSequence text;
+    private int position;
+    // holds the numbers of nextInts/nextLongs until the count is known
+    private long[] buffer;
+
+    Tokenizer() {
+        this("");
+    }
+
+    Tokenizer(CharSequence text) {
+        reset(text);
+    }
+
+    static Tokenizer of(CharSequence text) {
+        return new Tokenizer(text);
+    }
+
+    Tokenizer reset(CharSequence text) {
+        this.text = text;
+        this.position = 0;
+
+        return this;
+    }
+
+    int position() {
+        return position;
+    }
+
+    // true when there is anything but whitespace left
+    boolean hasNext() {
+        skipWhitespace();
+
+        return position < text.length();
+    }
+
+    boolean hasNextNumber() {
+        skipWhitespace();
+
+        return position < text.length() &&
+               (isDigit(text.charAt(position)) ||
+                text.charAt(position) == '-' && position + 1 < text.length() && isDigit(text.charAt(position + 1)));
+    }
+
+    char peek() {
+        if (!hasNext()) {
+            throw error("unexpected end");
+        }
+
+        return text.charAt(position);
+    }
+
+    char next() {
+        char c = peek();
+        position++;
+
+        return c;
+    }
+
+    Tokenizer skip(char expected) {
+        if (peek() != expected) {
+            throw error("expected '" + expected + "'");
+        }
+        position++;
+
+        return this;
+    }
+
+    // skips the character when it is next, e.g. an optional separator
+    boolean skipIf(char c) {
+        if (hasNext() && text.charAt(position) == c) {
+            position++;
+            return true;
+        }
+
+        return false;
+    }
+
+    // moves to just after the next occurrence of the delimiter
+    Tokenizer skipPast(char delimiter) {
+        while (position < text.length()) {
+            if (text.charAt(position++) == delimiter) {
+                return this;
+            }
+        }
+
+        throw error("'" + delimiter + "' not found");
+    }
+
+    // skips a run of letters and digits, e.g. a label that is not needed
+    Tokenizer skipToken() {
+        int start = tokenStart();
+        while (position < text.length() && Character.isLetterOrDigit(text.charAt(position))) {
+            position++;
+        }
+        if (position == start) {
+            throw error("expected a token");
+        }
+
+        return this;
+    }
+
+    // a run of letters and digits
+    String nextToken() {
+        int start = tokenStart();
+        skipToken();
+
+        return text.subSequence(start, position).toString();
+    }
+
+    // everything up to the delimiter (or the end), the delimiter itself is skipped
+    String nextUntil(char delimiter) {
+        int start = tokenStart();
+        while (position < text.length() && text.charAt(position) != delimiter) {
+            position++;
+        }
+        String token = text.subSequence(start, position).toString();
+        if (position < text.length()) {
+            position++;
+        }
+
+        return token;
+    }
+
+    int nextInt() {
+        return Math.toIntExact(nextLong());
+    }
+
+    long nextLong() {
+        if (!hasNextNumber()) {
+            throw error("expected a number");
+        }
+
+        boolean negative = text.charAt(position) == '-';
+        if (negative) {
+            position++;
+        }
+
+        // accumulated negative, like Long.parseLong, so Long.MIN_VALUE fits as well
+        int start = position;
+        long value = 0;
+        try {
+            while (position < text.length() && isDigit(text.charAt(position))) {
+                value = Math.subtractExact(Math.multiplyExact(value, 10), text.charAt(position++) - '0');
+            }
+
+            return negative ? value : Math.negateExact(value);
+        } catch (ArithmeticException e) {
+            throw tooLarge(start);
+        }
+    }
+
+    // all numbers up to the first thing that is not a number, e.g. the '|' in "41 48 83 | 83 86"
+    int[] nextInts() {
+        int count = readNumbers();
+        int[] numbers = new int[count];
+        for (int i = 0; i < count; i++) {
+            numbers[i] = Math.toIntExact(buffer[i]);
+        }
+
+        return numbers;
+    }
+
+    long[] nextLongs() {
+        int count = readNumbers();
+
+        return Arrays.copyOf(buffer, count);
+    }
+
+    private int readNumbers() {
+        if (buffer == null) {
+            buffer = new long[16];
+        }
+
+        int count = 0;
+        while (hasNextNumber()) {
+            if (count == buffer.length) {
+                buffer = Arrays.copyOf(buffer, 2 * count);
+            }
+            buffer[count++] = nextLong();
+        }
+
+        return count;
+    }
+
+    // all digits up to the end as one number, ignoring the spaces in between: "7  15   30" is 71530
+    long nextDigits() {
+        if (!hasNextNumber()) {
+            throw error("expected a number");
+        }
+
+        int start = position;
+        long value = 0;
+        try {
+            for (; position < text.length(); position++) {
+                char c = text.charAt(position);
+                if (isDigit(c)) {
+                    value = Math.addExact(Math.multiplyExact(value, 10), c - '0');
+                } else if (!Character.isWhitespace(c)) {
+                    break;
+                }
+            }
+        } catch (ArithmeticException e) {
+            throw tooLarge(start);
+        }
+
+        return value;
+    }
+
+    private int tokenStart() {
+        skipWhitespace();
+
+        return position;
+    }
+
+    private void skipWhitespace() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // like Long.parseLong, instead of silently wrapping around
+    private NumberFormatException tooLarge(int start) {
+        return new NumberFormatException("number does not fit in a long at position %d of '%s'".formatted(start, text));
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("%s at position %d of '%s'".formatted(message, position, text));
+    }
+}
@@ -0,0 +1,66 @@
+package aoc2023;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// the kernels with the Vector API: full vectors first, the tail (shorter than a vector) is done by the scalar version
+// only compiled with the simd profile, and only loaded by ByteKernels when the incubator module is available
+final class VectorByteKernels implements ByteKernels {
+    private final static VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    private final ByteKernels scalar = new ScalarByteKernels();
+
+    @Override
+    public int indexOf(byte[] bytes, int from, int to, byte value) {
+        int i = from;
+        for (int upperBound = from + SPECIES.loopBound(to - from); i < upperBound; i += SPECIES.length()) {
+            VectorMask<Byte> matches = ByteVector.fromArray(SPECIES, bytes, i).eq(value);
+            if (matches.anyTrue()) {
+                return i + matches.firstTrue();
+            }
+        }
+
+        return scalar.indexOf(bytes, i, to, value);
+    }
+
+    @Override
+    public boolean equals(byte[] a, int aFrom, byte[] b, int bFrom, int length) {
+        int i = 0;
+        for (int upperBound = SPECIES.loopBound(length); i < upperBound; i += SPECIES.length()) {
+            ByteVector vectorA = ByteVector.fromArray(SPECIES, a, aFrom + i);
+            ByteVector vectorB = ByteVector.fromArray(SPECIES, b, bFrom + i);
+            if (vectorA.compare(VectorOperators.NE, vectorB).anyTrue()) {
+                return false;
+            }
+        }
+
+        return scalar.equals(a, aFrom + i, b, bFrom + i, length - i);
+    }
+
+    @Override
+    public void orMatches(byte[] bytes, int from, byte value, boolean[] matches) {
+        int i = 0;
+        for (int upperBound = SPECIES.loopBound(matches.length); i < upperBound; i += SPECIES.length()) {
+            ByteVector.fromArray(SPECIES, bytes, from + i).eq(value)
+                    .or(VectorMask.fromArray(SPECIES, matches, i))
+                    .intoArray(matches, i);
+        }
+
+        for (; i < matches.length; i++) {
+            matches[i] |= bytes[from + i] == value;
+        }
+    }
+
+    @Override
+    public int count(byte[] bytes, int from, int to, byte value) {
+        int count = 0;
+        int i = from;
+        for (int upperBound = from + SPECIES.loopBound(to - from); i < upperBound; i += SPECIES.length()) {
+            count += ByteVector.fromArray(SPECIES, bytes, i).eq(value).trueCount();
+        }
+
+        return count + scalar.count(bytes, i, to, value);
+    }
+}
@@ -0,0 +1,62 @@
+package aoc2023;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void solvesAllInputs() throws Exception {
+        for (int seed = 1; seed <= 8; seed++) {
+            Generators.generate(2, 50, seed, tempDir.resolve("tenant-" + seed + ".txt"));
+        }
+        Files.writeString(tempDir.resolve("broken.txt"), "not a game\n");
+
+        ConcurrentLinkedQueue<BatchResult> results = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        BatchSummary summary;
+        try {
+            summary = Batch.solveAll(2, Batch.inputs(tempDir.toString()), executor, results::add);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(summary.nrInputs()).isEqualTo(9);
+        assertThat(summary.nrErrors()).isEqualTo(1);
+        assertThat(summary.latencies().count()).isEqualTo(9);
+        assertThat(results).hasSize(9);
+
+        Day day = new Day02();
+        for (BatchResult result : results) {
+            if (result.file().getFileName().toString().equals("broken.txt")) {
+                assertThat(result.error()).isNotNull();
+            } else {
+                List<String> input = Files.readAllLines(result.file());
+                assertThat(result.part1()).isEqualTo(day.doPart1(input));
+                assertThat(result.part2()).isEqualTo(day.doPart2(input));
+            }
+        }
+    }
+
+    @Test
+    void glob() throws Exception {
+        Files.writeString(tempDir.resolve("day2-a.txt"), "");
+        Files.writeString(tempDir.resolve("day2-b.txt"), "");
+        Files.writeString(tempDir.resolve("day3-a.txt"), "");
+
+        assertThat(Batch.inputs(tempDir.resolve("day2-*.txt").toString()))
+                .extracting(path -> path.getFileName().toString())
+                .containsExactly("day2-a.txt", "day2-b.txt");
+    }
+}
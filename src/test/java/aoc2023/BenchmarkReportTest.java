@@ -0,0 +1,117 @@
+package aoc2023;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BenchmarkReportTest {
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void noReport() {
+        System.clearProperty("report");
+        System.clearProperty("cache.dir");
+    }
+
+    @Test
+    void csv() {
+        List<String> columns = List.of("a", "-Dx=1,2", "say \"hi\"", "");
+
+        assertThat(BenchmarkReport.csvLine(columns)).isEqualTo("a,\"-Dx=1,2\",\"say \"\"hi\"\"\",");
+        assertThat(BenchmarkReport.csvColumns(BenchmarkReport.csvLine(columns))).isEqualTo(columns);
+    }
+
+    @Test
+    void dayAppendsRows() throws Exception {
+        Path file = tempDir.resolve("report.csv");
+        System.setProperty("report", file.toString());
+
+        List<String> input = Generators.generate(2, 20, 1);
+        new Day02().solve(input);
+        new Day02().solve(input);
+
+        List<BenchmarkRow> rows = new BenchmarkReport(file).read();
+        assertThat(rows).hasSize(4);
+        assertThat(rows).extracting(BenchmarkRow::day).containsOnly("Day02");
+        assertThat(rows).extracting(BenchmarkRow::part).containsExactly(1, 2, 1, 2);
+        assertThat(rows).extracting(BenchmarkRow::strategy).containsOnly(Day.DEFAULT_STRATEGY);
+        assertThat(rows.get(0).inputHash()).isEqualTo(ResultCache.hash(input.stream()));
+        assertThat(rows.get(0).javaVersion()).isEqualTo(Runtime.version().toString());
+    }
+
+    @Test
+    void cachedPartsAreNotReported() throws Exception {
+        Path file = tempDir.resolve("report.csv");
+        System.setProperty("report", file.toString());
+        System.setProperty("cache.dir", tempDir.resolve("cache").toString());
+
+        List<String> input = Generators.generate(2, 20, 1);
+        new Day02().solve(input);
+        // both parts are a cache hit
+        new Day02().solve(input);
+
+        assertThat(new BenchmarkReport(file).read()).extracting(BenchmarkRow::part).containsExactly(1, 2);
+    }
+
+    @Test
+    void compare() {
+        List<BenchmarkRow> baseline = List.of(
+                row("Day01", 1, "42", 10.0, 1000),
+                row("Day01", 2, "43", 10.0, 1000),
+                row("Day02", 1, "44", 10.0, 1000)
+        );
+        List<BenchmarkRow> run = List.of(
+                row("Day01", 1, "42", 10.5, 1000),
+                // slower
+                row("Day01", 2, "43", 12.0, 1000),
+                // the last row of a part counts
+                row("Day02", 1, "44", 20.0, 1000),
+                row("Day02", 1, "45", 10.0, 1000),
+                row("Day03", 1, "46", 10.0, 1000)
+        );
+
+        List<BenchmarkComparison> comparisons = BenchmarkReport.compare(baseline, run, 0.10);
+
+        assertThat(comparisons).extracting(BenchmarkComparison::status).containsExactly(
+                BenchmarkComparison.OK,
+                BenchmarkComparison.REGRESSION,
+                BenchmarkComparison.DIFFERENT_RESULT,
+                BenchmarkComparison.NO_BASELINE
+        );
+        assertThat(comparisons.get(1).timeRatio()).isEqualTo(1.2);
+        assertThat(comparisons).filteredOn(BenchmarkComparison::failed).hasSize(2);
+
+        // more allocation is a regression as well
+        assertThat(BenchmarkReport.compare(baseline, List.of(row("Day01", 1, "42", 10.0, 2000)), 0.10))
+                .extracting(BenchmarkComparison::status)
+                .containsExactly(BenchmarkComparison.REGRESSION);
+    }
+
+    @Test
+    void comparedWithSameStrategy() {
+        List<BenchmarkRow> baseline = List.of(row("Day06", 1, "42", 10.0, 1000));
+        List<BenchmarkRow> run = List.of(
+                row("Day06", 1, "reference", "42", 100.0, 1000),
+                row("Day06", 1, "42", 10.0, 1000)
+        );
+
+        assertThat(BenchmarkReport.compare(baseline, run, 0.10))
+                .extracting(BenchmarkComparison::status)
+                .containsExactly(BenchmarkComparison.NO_BASELINE, BenchmarkComparison.OK);
+    }
+
+    private static BenchmarkRow row(String day, int part, String result, double medianMillis, long allocatedBytes) {
+        return row(day, part, Day.DEFAULT_STRATEGY, result, medianMillis, allocatedBytes);
+    }
+
+    private static BenchmarkRow row(String day, int part, String strategy, String result, double medianMillis, long allocatedBytes) {
+        return new BenchmarkRow("2023-12-01T00:00:00Z", day, part, strategy, "hash", result, 1.0, 10, 5,
+                medianMillis, medianMillis, medianMillis, medianMillis, allocatedBytes, 0, 0, 0, "21", "");
+    }
+}
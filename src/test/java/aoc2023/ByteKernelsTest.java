@@ -0,0 +1,51 @@
+package aoc2023;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// the SIMD kernels must give the same answers as the scalar ones, also for the tails and unaligned ranges
+// the SIMD kernels are only there with the simd profile (mvn -Psimd test), otherwise this test is skipped
+class ByteKernelsTest {
+    private final ByteKernels scalar = new ScalarByteKernels();
+
+    @Test
+    void sameAsScalar() throws ReflectiveOperationException {
+        assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(), "module jdk.incubator.vector not available");
+        ByteKernels vector;
+        try {
+            vector = (ByteKernels) Class.forName("aoc2023.VectorByteKernels").getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            assumeTrue(false, "VectorByteKernels not compiled, use the simd profile");
+            return;
+        }
+        Random random = new Random(42);
+
+        for (int i = 0; i < 1000; i++) {
+            byte[] bytes = new byte[random.nextInt(1, 300)];
+            for (int j = 0; j < bytes.length; j++) {
+                bytes[j] = (byte) ".#O0123456789".charAt(random.nextInt(random.nextBoolean() ? 2 : 13));
+            }
+            int from = random.nextInt(bytes.length);
+            int to = random.nextInt(from, bytes.length + 1);
+
+            assertThat(vector.indexOf(bytes, from, to, (byte) '#')).isEqualTo(scalar.indexOf(bytes, from, to, (byte) '#'));
+            assertThat(vector.count(bytes, from, to, (byte) 'O')).isEqualTo(scalar.count(bytes, from, to, (byte) 'O'));
+
+            byte[] copy = bytes.clone();
+            if (random.nextBoolean() && to > from) {
+                copy[random.nextInt(from, to)] = 'x';
+            }
+            assertThat(vector.equals(bytes, from, copy, from, to - from)).isEqualTo(scalar.equals(bytes, from, copy, from, to - from));
+
+            boolean[] vectorMatches = new boolean[to - from];
+            boolean[] scalarMatches = new boolean[to - from];
+            vector.orMatches(bytes, from, (byte) '#', vectorMatches);
+            scalar.orMatches(bytes, from, (byte) '#', scalarMatches);
+            assertThat(vectorMatches).isEqualTo(scalarMatches);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package aoc2023;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentPartsTest {
+    @AfterEach
+    void sequential() {
+        System.clearProperty("concurrent");
+    }
+
+    // days 4, 10 and 13 change their model while solving
+    @ParameterizedTest
+    @ValueSource(ints = {3, 4, 10, 13, 14, 16})
+    void sameResultsAsSequential(int dayNr) {
+        List<String> input = Generators.generate(dayNr, 30, 1);
+
+        List<String> expected = Days.create(dayNr).solve(input).results();
+
+        System.setProperty("concurrent", "true");
+        for (int i = 0; i < 10; i++) {
+            assertThat(Days.create(dayNr).solve(input).results()).isEqualTo(expected);
+        }
+    }
+
+    // day 13 flips its cells in place, the copy for a part shares no grid with the model
+    @Test
+    void day13SolvesOnACopy() {
+        Day13 day = new Day13();
+        Valley valley = day.parse(Generators.generate(13, 30, 1));
+        Valley copy = day.copy(valley);
+
+        assertThat(copy).isEqualTo(valley);
+        for (int i = 0; i < valley.pattern().size(); i++) {
+            assertThat(copy.pattern().get(i).grid()).isNotSameAs(valley.pattern().get(i).grid());
+            assertThat(copy.pattern().get(i).columns()).isNotSameAs(valley.pattern().get(i).columns());
+        }
+    }
+}
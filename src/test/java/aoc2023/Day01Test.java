@@ -22,6 +22,20 @@ class Day01Test {
         assertThat(day.doPart2(day.readInput("day1_02.txt"))).isEqualTo("281");
     }
 
+    @Test
+    void doPart1Mapped() throws Exception {
+        Day day = getDay();
+
+        assertThat(day.doPart1(day.readMappedInput("day1_01.txt"))).isEqualTo("142");
+    }
+
+    @Test
+    void doPart2Mapped() throws Exception {
+        Day day = getDay();
+
+        assertThat(day.doPart2(day.readMappedInput("day1_02.txt"))).isEqualTo("281");
+    }
+
     // @formatter:off
     private String getInputFilename() {
         // get our class
@@ -3,6 +3,9 @@ package aoc2023;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -22,6 +25,38 @@ class Day04Test {
         assertThat(day.doPart2(day.readInput(getInputFilename()))).isEqualTo("30");
     }
 
+    @Test
+    void doPart1Streaming() throws Exception {
+        StreamingDay day = (StreamingDay) getDay();
+
+        assertThat(day.doPart1(getDay().readInput(getInputFilename()).stream())).isEqualTo("13");
+    }
+
+    @Test
+    void doPart2Streaming() throws Exception {
+        StreamingDay day = (StreamingDay) getDay();
+
+        assertThat(day.doPart2(getDay().readInput(getInputFilename()).stream())).isEqualTo("30");
+    }
+
+    @Test
+    void doPart2StreamingManyWins() {
+        // more wins per card than the initial ring buffer of the streaming version, the last cards win nothing
+        List<String> input = IntStream.rangeClosed(1, 60)
+                .mapToObj(cardNr -> "Card %d: %s | %s".formatted(cardNr,
+                        numbers(1, 40),
+                        numbers(cardNr <= 20 ? 1 + cardNr : 41, 40)))
+                .toList();
+
+        assertThat(new Day04().doPart2(input.stream())).isEqualTo(new Day04().doPart2(input));
+    }
+
+    private static String numbers(int from, int nrNumbers) {
+        return IntStream.range(from, from + nrNumbers)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(" "));
+    }
+
     // @formatter:off
     private String getInputFilename() {
         // get our class
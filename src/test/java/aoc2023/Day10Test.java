@@ -3,6 +3,7 @@ package aoc2023;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -26,6 +27,14 @@ class Day10Test {
         assertThat(day.doPart2(day.readInput("day10_6.txt"))).isEqualTo("10");
     }
 
+    @PerformanceBudget(day = 10, scale = 400, maxMillis = 250, maxAllocatedMB = 10)
+    void performance(List<String> input) {
+        Day day = new Day10();
+
+        day.doPart1(input);
+        day.doPart2(input);
+    }
+
     // @formatter:off
     private String getInputFilename() {
         // get our class
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -24,6 +25,14 @@ class Day15Test {
         assertThat(day.doPart2(day.readInput(getInputFilename()))).isEqualTo("145");
     }
 
+    @Test
+    void stepsAreSplitLazily() {
+        // the second step is invalid, but it is never made
+        assertThat(InitializationSequence.steps(Stream.of("rn=1,qp=x")).findFirst())
+                .map(InitializationStep::label)
+                .hasValue("rn");
+    }
+
     // @formatter:off
     private String getInputFilename() {
         // get our class
@@ -3,6 +3,7 @@ package aoc2023;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -22,6 +23,14 @@ class Day16Test {
         assertThat(day.doPart2(day.readInput(getInputFilename()))).isEqualTo("51");
     }
 
+    @PerformanceBudget(day = 16, scale = 50, maxMillis = 100, maxAllocatedMB = 25)
+    void performance(List<String> input) {
+        Day day = new Day16();
+
+        day.doPart1(input);
+        day.doPart2(input);
+    }
+
     // @formatter:off
     private String getInputFilename() {
         // get our class
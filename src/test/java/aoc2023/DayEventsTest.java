@@ -0,0 +1,52 @@
+package aoc2023;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DayEventsTest {
+    private final static List<String> EVENTS = List.of(
+            "aoc2023.InputRead",
+            "aoc2023.Parse",
+            "aoc2023.Part",
+            "aoc2023.PlatformCycle",
+            "aoc2023.NetworkWalk",
+            "aoc2023.BeamStart"
+    );
+
+    @Test
+    void recordsEvents(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("days.jfr");
+
+        try (Recording recording = new Recording()) {
+            EVENTS.forEach(name -> recording.enable(name).withoutThreshold());
+            recording.start();
+
+            for (int dayNr : List.of(8, 14, 16)) {
+                Day day = Days.create(dayNr);
+                day.solve(day.readInput(Days.inputFilename(dayNr)));
+            }
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+        assertThat(events)
+                .extracting(event -> event.getEventType().getName())
+                .containsAll(EVENTS);
+        assertThat(events)
+                .filteredOn(event -> event.getEventType().getName().equals("aoc2023.Part"))
+                .filteredOn(event -> event.getString("day").equals("Day14"))
+                .extracting(event -> event.getString("result"))
+                .containsExactly("136", "64");
+    }
+}
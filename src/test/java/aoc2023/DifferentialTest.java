@@ -0,0 +1,68 @@
+package aoc2023;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// every strategy of a day must give the same answers as the reference strategy
+class DifferentialTest {
+    private final static int NR_SEEDS = 10;
+    private final static List<Integer> DEFAULT_SCALES = List.of(10, 30);
+    // day 6: the race time, small times give races without or with a single win
+    private final static Map<Integer, List<Integer>> SCALES = Map.of(
+            6, List.of(10, 1_000, 1_000_000),
+            11, List.of(10, 50, 100)
+    );
+
+    static Stream<Arguments> inputs() {
+        return Days.dayNrs().stream()
+                .filter(dayNr -> Days.create(dayNr).strategies().contains(Day.REFERENCE_STRATEGY))
+                .flatMap(dayNr -> SCALES.getOrDefault(dayNr, DEFAULT_SCALES).stream()
+                        .flatMap(scale -> IntStream.rangeClosed(1, NR_SEEDS)
+                                .mapToObj(seed -> Arguments.of(dayNr, scale, seed))));
+    }
+
+    @ParameterizedTest(name = "day {0}, scale {1}, seed {2}")
+    @MethodSource("inputs")
+    void sameAnswersAsReference(int dayNr, int scale, int seed) {
+        List<String> input = Generators.generate(dayNr, scale, seed);
+
+        Day reference = Days.create(dayNr).withStrategy(Day.REFERENCE_STRATEGY);
+        String part1 = reference.doPart1(input);
+        String part2 = reference.doPart2(input);
+
+        for (String strategy : reference.strategies()) {
+            Day day = Days.create(dayNr).withStrategy(strategy);
+
+            assertThat(day.doPart1(input)).as("part 1, strategy %s", strategy).isEqualTo(part1);
+            assertThat(day.doPart2(input)).as("part 2, strategy %s", strategy).isEqualTo(part2);
+        }
+    }
+
+    @Test
+    void strategies() {
+        assertThat(new Day06().strategies()).hasSize(2).contains(Day.REFERENCE_STRATEGY);
+        assertThat(new Day06().strategy()).isEqualTo(new Day06().strategies().get(0));
+        assertThat(new Day02().strategies()).containsExactly(Day.DEFAULT_STRATEGY);
+        assertThatThrownBy(() -> new Day02().withStrategy(Day.REFERENCE_STRATEGY))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        System.setProperty("strategy", Day.REFERENCE_STRATEGY);
+        try {
+            assertThat(new Day11().strategy()).isEqualTo(Day.REFERENCE_STRATEGY);
+            // days without the strategy use their default
+            assertThat(new Day02().strategy()).isEqualTo(Day.DEFAULT_STRATEGY);
+        } finally {
+            System.clearProperty("strategy");
+        }
+    }
+}
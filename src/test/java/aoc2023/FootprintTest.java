@@ -0,0 +1,61 @@
+package aoc2023;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FootprintTest {
+    @Test
+    void sizes() {
+        assertThat(Footprint.of("test", 0, new long[10]).bytes()).isEqualTo(16 + 80);
+        assertThat(Footprint.of("test", 0, "abc").bytes()).isEqualTo(24 + 24);
+        assertThat(Footprint.of("test", 0, 42L).bytes()).isEqualTo(24);
+
+        // Grid: 2 ints and a reference, 9 bytes in an array
+        FootprintReport grid = Footprint.of("test", 9, Grid.of(List.of("...", "...", "...")));
+        assertThat(grid.bytes()).isEqualTo(24 + 32);
+        assertThat(grid.nrObjects()).isEqualTo(2);
+        assertThat(grid.types()).extracting(FootprintEntry::type).containsExactly("byte[]", "Grid");
+    }
+
+    @Test
+    void sharedObjectsAreCountedOnce() {
+        String shared = "abc";
+        List<String> strings = new ArrayList<>(List.of(shared, shared, shared));
+
+        FootprintReport report = Footprint.of("test", 0, strings);
+
+        assertThat(report.nrObjects()).isEqualTo(2);
+        assertThat(report.types()).extracting(FootprintEntry::count).containsOnly(1L);
+    }
+
+    @Test
+    void categories() {
+        Map<Integer, PointDay11> points = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            points.put(i, new PointDay11(i, i));
+        }
+
+        Map<String, Long> categories = Footprint.of("test", 0, points).categories();
+
+        assertThat(categories).containsOnlyKeys(Footprint.COLLECTIONS, Footprint.BOXED, Footprint.MODEL);
+        // a node per entry (32) and a table of 2048 references
+        assertThat(categories.get(Footprint.COLLECTIONS)).isEqualTo(48 + 16 + 2048 * 4 + 1000 * 32);
+        assertThat(categories.get(Footprint.MODEL)).isEqualTo(1000 * 24);
+    }
+
+    @Test
+    void dayModels() throws Exception {
+        assertThat(Footprint.of(1)).isEmpty();
+
+        FootprintReport report = Footprint.of(3).orElseThrow();
+        assertThat(report.day()).isEqualTo("Day03");
+        assertThat(report.bytesPerInputByte()).isGreaterThan(1.0);
+        assertThat(report.types().stream().mapToLong(FootprintEntry::bytes).sum()).isEqualTo(report.bytes());
+    }
+}
@@ -0,0 +1,74 @@
+package aoc2023;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeneratorsTest {
+    // the answers for scale 30 and seed 1 (as given by the original solutions), a changed generator or solver shows up here
+    // day 5 is checked against a brute force over all seeds, the original solution fails on numbers above 2^31
+    // day 6 part 1 is 0: the races of part 1 are the digits of the part 2 race, not all of them can be won
+    private final static Map<Integer, List<String>> ANSWERS = Map.ofEntries(
+            Map.entry(1, List.of("1629", "1632")),
+            Map.entry(2, List.of("72", "72705")),
+            Map.entry(3, List.of("19931", "678308")),
+            Map.entry(4, List.of("106", "283")),
+            Map.entry(5, List.of("531880", "431529176")),
+            Map.entry(6, List.of("0", "12")),
+            Map.entry(7, List.of("241932", "243277")),
+            Map.entry(8, List.of("3", "12")),
+            Map.entry(9, List.of("-86852073", "11")),
+            Map.entry(10, List.of("54", "676")),
+            Map.entry(11, List.of("6069", "2085001899")),
+            Map.entry(13, List.of("26", "9289")),
+            Map.entry(14, List.of("2717", "1837")),
+            Map.entry(15, List.of("3314", "5196")),
+            Map.entry(16, List.of("23", "137"))
+    );
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 13, 14, 15, 16})
+    void generatedInputIsDeterministic(int dayNr) {
+        assertThat(Generators.generate(dayNr, 20, 42)).isEqualTo(Generators.generate(dayNr, 20, 42));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 13, 14, 15, 16})
+    void knownAnswers(int dayNr) {
+        Day day = Days.create(dayNr);
+        List<String> input = Generators.generate(dayNr, 30, 1);
+
+        assertThat(List.of(day.doPart1(input), day.doPart2(input))).isEqualTo(ANSWERS.get(dayNr));
+    }
+
+    // like the real input, the almanac has numbers that don't fit in an int
+    @Test
+    void day05AboveIntRange() {
+        long max = Generators.generate(5, 30, 1).stream()
+                .filter(line -> !line.contains(":"))
+                .flatMapToLong(line -> Arrays.stream(Tokenizer.of(line).nextLongs()))
+                .max()
+                .orElseThrow();
+
+        assertThat(max).isGreaterThan(Integer.MAX_VALUE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 13, 14, 15, 16})
+    void generatedInputCanBeSolved(int dayNr) {
+        Day day = Days.create(dayNr);
+
+        for (long seed = 1; seed <= 5; seed++) {
+            List<String> input = Generators.generate(dayNr, 20, seed);
+
+            assertThat(day.doPart1(input)).isNotBlank();
+            assertThat(day.doPart2(input)).isNotBlank();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package aoc2023;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GridTest {
+    private final Grid grid = Grid.of(List.of(
+            "#..",
+            ".#.",
+            "#.."
+    ));
+
+    @Test
+    void access() {
+        assertThat(grid.width()).isEqualTo(3);
+        assertThat(grid.height()).isEqualTo(3);
+        assertThat(grid.get(1, 1)).isEqualTo((byte) '#');
+        assertThat(grid.getOrDefault(-1, 0, (byte) '.')).isEqualTo((byte) '.');
+        assertThatThrownBy(() -> grid.get(3, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> Grid.of(List.of("..", "..."))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rowsAndColumns() {
+        assertThat(grid.rowContains(1, (byte) '#')).isTrue();
+        assertThat(grid.columnContains(2, (byte) '#')).isFalse();
+        assertThat(grid.rowEquals(0, 2)).isTrue();
+        assertThat(grid.columnEquals(1, 2)).isFalse();
+        assertThat(grid.count((byte) '#')).isEqualTo(3);
+        assertThat(grid.row(1).toString()).isEqualTo(".#.");
+        assertThat(grid.column(0).toString()).isEqualTo("#.#");
+        assertThat(grid.row(0).subSequence(1, 3).toString()).isEqualTo("..");
+        assertThat(grid.countInRow(1, (byte) '#')).isEqualTo(1);
+        assertThat(grid.columnsContaining((byte) '#')).containsExactly(true, true, false);
+        assertThat(grid.transpose().row(0).toString()).isEqualTo("#.#");
+    }
+
+    @Test
+    void neighbours() {
+        List<String> neighbours = new ArrayList<>();
+        grid.forEachOrthogonalNeighbour(0, 0, (x, y, value) -> neighbours.add(x + "," + y));
+        assertThat(neighbours).containsExactly("1,0", "0,1");
+
+        List<Byte> values = new ArrayList<>();
+        grid.forEachNeighbour(1, 1, (x, y, value) -> values.add(value));
+        assertThat(values).hasSize(8).filteredOn(value -> value == '#').hasSize(2);
+    }
+
+    @Test
+    void copyIsIndependent() {
+        Grid copy = grid.copy();
+        copy.set(2, 2, (byte) '#');
+
+        assertThat(copy).isNotEqualTo(grid);
+        assertThat(grid.get(2, 2)).isEqualTo((byte) '.');
+    }
+}
@@ -0,0 +1,49 @@
+package aoc2023;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongHashSetTest {
+    @Test
+    void addAndContains() {
+        LongHashSet set = new LongHashSet();
+
+        assertThat(set.add(0)).isTrue();
+        assertThat(set.add(0)).isFalse();
+        assertThat(set.add(-1)).isTrue();
+        assertThat(set.add(PackedPoint.of(2, 3))).isTrue();
+
+        assertThat(set.contains(0)).isTrue();
+        assertThat(set.contains(-1)).isTrue();
+        assertThat(set.contains(PackedPoint.of(3, 2))).isFalse();
+        assertThat(set.size()).isEqualTo(3);
+        assertThat(set.toArray()).containsExactlyInAnyOrder(0, -1, PackedPoint.of(2, 3));
+
+        set.clear();
+        assertThat(set.isEmpty()).isTrue();
+        assertThat(set.contains(0)).isFalse();
+        assertThat(set.contains(-1)).isFalse();
+    }
+
+    @Test
+    void sameAsHashSetWhileGrowing() {
+        // a small range of points in a large grid: many keys that only differ in the high bits
+        Random random = new Random(1);
+        LongHashSet set = new LongHashSet(1);
+        Set<Long> expected = new HashSet<>();
+
+        for (int i = 0; i < 50_000; i++) {
+            long point = PackedPoint.of(random.nextInt(-200, 200) * 1024, random.nextInt(-200, 200), random.nextInt(4));
+            assertThat(set.add(point)).isEqualTo(expected.add(point));
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        expected.forEach(point -> assertThat(set.contains(point)).isTrue());
+        set.forEach(point -> assertThat(expected.contains(point)).isTrue());
+    }
+}
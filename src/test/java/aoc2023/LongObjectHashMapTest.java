@@ -0,0 +1,53 @@
+package aoc2023;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongObjectHashMapTest {
+    @Test
+    void putAndGet() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+        assertThat(map.put(0, "zero")).isNull();
+        assertThat(map.put(0, "nul")).isEqualTo("zero");
+        assertThat(map.put(PackedPoint.of(-1, -1), "corner")).isNull();
+
+        assertThat(map.get(0)).isEqualTo("nul");
+        assertThat(map.get(PackedPoint.of(-1, -1))).isEqualTo("corner");
+        assertThat(map.get(PackedPoint.of(1, 1))).isNull();
+        assertThat(map.getOrDefault(PackedPoint.of(1, 1), "none")).isEqualTo("none");
+        assertThat(map.containsKey(0)).isTrue();
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.keys()).containsExactlyInAnyOrder(0, PackedPoint.of(-1, -1));
+        assertThatThrownBy(() -> map.put(1, null)).isInstanceOf(IllegalArgumentException.class);
+
+        map.clear();
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get(0)).isNull();
+    }
+
+    @Test
+    void sameAsHashMapWhileGrowing() {
+        Random random = new Random(1);
+        LongObjectHashMap<Integer> map = new LongObjectHashMap<>(1);
+        Map<Long, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 50_000; i++) {
+            long point = PackedPoint.of(random.nextInt(-300, 300), random.nextInt(-300, 300));
+            assertThat(map.put(point, i)).isEqualTo(expected.put(point, i));
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((point, value) -> assertThat(map.get(point)).isEqualTo(value));
+
+        Map<Long, Integer> entries = new HashMap<>();
+        map.forEach(entries::put);
+        assertThat(entries).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,52 @@
+package aoc2023;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedInputTest {
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void notMapped() {
+        System.clearProperty("mapped");
+    }
+
+    @Test
+    void lines() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("input.txt"), "ab\r\n\ncd");
+        MappedInput input = MappedInput.of(file);
+
+        assertThat(input.lines()).containsExactly("ab", "", "cd");
+        assertThat(input.lines()).isSameAs(input.lines());
+    }
+
+    @Test
+    void parsedOnceOnMappedPath() throws Exception {
+        List<String> lines = Generators.generate(3, 30, 1);
+        Path file = Files.write(tempDir.resolve("day3.txt"), lines);
+
+        int[] nrParses = new int[1];
+        Day03 day = new Day03() {
+            @Override
+            public Engine parse(List<String> inputRaw) {
+                nrParses[0]++;
+                return super.parse(inputRaw);
+            }
+        };
+
+        System.setProperty("mapped", "true");
+        DayResult mapped = day.main(file);
+
+        assertThat(nrParses[0]).isEqualTo(1);
+        assertThat(mapped.parseNanos()).isPositive();
+        assertThat(mapped.results()).isEqualTo(new Day03().solve(lines).results());
+    }
+}
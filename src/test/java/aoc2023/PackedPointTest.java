@@ -0,0 +1,26 @@
+package aoc2023;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PackedPointTest {
+    @Test
+    void packAndUnpack() {
+        long point = PackedPoint.of(-3, 7, 2);
+        assertThat(PackedPoint.x(point)).isEqualTo(-3);
+        assertThat(PackedPoint.y(point)).isEqualTo(7);
+        assertThat(PackedPoint.tag(point)).isEqualTo(2);
+
+        long corner = PackedPoint.of((1 << 29) - 1, -(1 << 29), 15);
+        assertThat(PackedPoint.x(corner)).isEqualTo((1 << 29) - 1);
+        assertThat(PackedPoint.y(corner)).isEqualTo(-(1 << 29));
+        assertThat(PackedPoint.tag(corner)).isEqualTo(15);
+
+        assertThat(PackedPoint.of(0, 0)).isZero();
+        assertThat(PackedPoint.of(1, 0)).isNotEqualTo(PackedPoint.of(0, 1)).isNotEqualTo(PackedPoint.of(0, 0, 1));
+        assertThatThrownBy(() -> PackedPoint.of(1 << 29, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PackedPoint.of(0, 0, 16)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,45 @@
+package aoc2023;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// a test that fails when it takes more time or allocates more than its budget
+// the test method gets the generated input of the day as a List<String> parameter, e.g.
+//
+//   @PerformanceBudget(day = 10, scale = 400, maxMillis = 250, maxAllocatedMB = 10)
+//   void performance(List<String> input) {
+//       new Day10().doPart2(input);
+//   }
+//
+// wall time budgets fail on slow or busy (CI) machines, so they only run with -Dbudget=true (mvn test -Dbudget=true)
+// the budgets are multiplied by -Dbudget.factor (default 1), for slow machines
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Test
+@Tag("budget")
+@EnabledIfSystemProperty(named = "budget", matches = "true", disabledReason = "performance budgets run with -Dbudget=true")
+@ExtendWith(PerformanceBudgetExtension.class)
+public @interface PerformanceBudget {
+    // the input, see Generators
+    int day();
+
+    int scale();
+
+    long seed() default 1;
+
+    // budgets for the median wall time and the average allocation of the measured runs
+    long maxMillis();
+
+    long maxAllocatedMB() default Long.MAX_VALUE;
+
+    int warmup() default 3;
+
+    int iterations() default 5;
+}
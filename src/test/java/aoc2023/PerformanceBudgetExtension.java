@@ -0,0 +1,94 @@
+package aoc2023;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.opentest4j.AssertionFailedError;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static aoc2023.Statistics.millis;
+
+// runs a @PerformanceBudget test with warmup and a number of measured iterations, and checks the budgets
+public class PerformanceBudgetExtension implements ParameterResolver, InvocationInterceptor {
+    private final static double MB = 1024.0 * 1024.0;
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == List.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        PerformanceBudget budget = budget(extensionContext.getRequiredTestMethod());
+
+        return Generators.generate(budget.day(), budget.scale(), budget.seed());
+    }
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
+        Method method = invocationContext.getExecutable();
+        PerformanceBudget budget = budget(method);
+        Object target = invocationContext.getTarget().orElse(null);
+        Object[] arguments = invocationContext.getArguments().toArray();
+        method.setAccessible(true);
+
+        for (int i = 0; i < budget.warmup(); i++) {
+            invoke(method, target, arguments);
+        }
+
+        long[] nanos = new long[budget.iterations()];
+        long allocatedBytes = 0;
+        for (int i = 0; i < nanos.length; i++) {
+            Probe before = Probe.now();
+            invoke(method, target, arguments);
+            Probe after = Probe.now();
+
+            nanos[i] = after.nanoTime() - before.nanoTime();
+            allocatedBytes += after.allocatedBytes() - before.allocatedBytes();
+        }
+        // the method already ran, so don't let JUnit run it once more
+        invocation.skip();
+
+        double factor = Double.parseDouble(System.getProperty("budget.factor", "1"));
+        double medianMillis = millis(Statistics.of(nanos).median());
+        double allocatedMB = allocatedBytes / MB / nanos.length;
+        double maxMillis = budget.maxMillis() * factor;
+        double maxAllocatedMB = budget.maxAllocatedMB() * factor;
+
+        String report = "day %d (scale %d): %.3f ms of %.0f ms (%.2f), %.1f MB of %.0f MB allocated (%.2f)".formatted(
+                budget.day(), budget.scale(),
+                medianMillis, maxMillis, medianMillis / maxMillis,
+                allocatedMB, maxAllocatedMB, allocatedMB / maxAllocatedMB);
+        System.out.println(extensionContext.getDisplayName() + " " + report);
+        extensionContext.publishReportEntry("performance budget", report);
+
+        List<String> overBudget = new ArrayList<>();
+        if (medianMillis > maxMillis) {
+            overBudget.add("wall time");
+        }
+        if (allocatedMB > maxAllocatedMB) {
+            overBudget.add("allocation");
+        }
+        if (!overBudget.isEmpty()) {
+            throw new AssertionFailedError("over budget (" + String.join(", ", overBudget) + "): " + report);
+        }
+    }
+
+    private static PerformanceBudget budget(Method method) {
+        return method.getAnnotation(PerformanceBudget.class);
+    }
+
+    private static void invoke(Method method, Object target, Object[] arguments) throws Throwable {
+        try {
+            method.invoke(target, arguments);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
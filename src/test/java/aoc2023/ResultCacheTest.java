@@ -0,0 +1,73 @@
+package aoc2023;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResultCacheTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void keys() {
+        String inputHash = ResultCache.hash(Stream.of("a", "b"));
+
+        assertThat(inputHash).isEqualTo(ResultCache.hash(Stream.of("a", "b")));
+        assertThat(inputHash).isNotEqualTo(ResultCache.hash(Stream.of("ab")));
+        assertThat(ResultCache.key("Day01", 1, inputHash))
+                .isNotEqualTo(ResultCache.key("Day01", 2, inputHash))
+                .isNotEqualTo(ResultCache.key("Day02", 1, inputHash));
+    }
+
+    // the mapped input is hashed from its bytes, a result is cached once for both ways of reading
+    @ParameterizedTest
+    @ValueSource(strings = {"ab\ncd\n", "ab\r\ncd", "\n\nab\n\n", ""})
+    void bytesHashSameAsLines(String text) throws Exception {
+        Path file = Files.writeString(tempDir.resolve("input.txt"), text);
+
+        try (Stream<String> lines = Files.lines(file)) {
+            assertThat(ResultCache.hash(MappedInput.of(file).bytes())).isEqualTo(ResultCache.hash(lines));
+        }
+    }
+
+    @Test
+    void getAndPut() {
+        ResultCache cache = new ResultCache(tempDir.resolve("cache"), 1024);
+
+        assertThat(cache.get("key")).isEmpty();
+        cache.put("key", "42");
+        assertThat(cache.get("key")).contains("42");
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() throws Exception {
+        // room for 2 results of 10 bytes
+        ResultCache cache = new ResultCache(tempDir, 25);
+
+        cache.put("first", "1234567890");
+        cache.put("second", "1234567890");
+        makeOlder("first", 2);
+        makeOlder("second", 1);
+
+        // using the first makes the second the least recently used
+        assertThat(cache.get("first")).isPresent();
+        cache.put("third", "1234567890");
+
+        assertThat(cache.get("second")).isEmpty();
+        assertThat(cache.get("first")).isPresent();
+        assertThat(cache.get("third")).isPresent();
+    }
+
+    private void makeOlder(String key, int minutes) throws Exception {
+        Files.setLastModifiedTime(tempDir.resolve(key), FileTime.from(Instant.now().minusSeconds(60L * minutes)));
+    }
+}
@@ -0,0 +1,53 @@
+package aoc2023;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ScalingCurveTest {
+    private static List<ScalingPoint> points(double exponent) {
+        return IntStream.of(1_000, 2_000, 4_000, 8_000)
+                .mapToObj(size -> new ScalingPoint(size, size, size, 0, (long) Math.pow(size, exponent), 10))
+                .toList();
+    }
+
+    @Test
+    void exponent() {
+        assertThat(ScalingCurve.exponent(points(1), ScalingPoint::part1Nanos)).isCloseTo(1.0, within(0.01));
+        assertThat(ScalingCurve.exponent(points(2), ScalingPoint::part1Nanos)).isCloseTo(2.0, within(0.01));
+        assertThat(ScalingCurve.exponent(points(1), ScalingPoint::part2Nanos)).isCloseTo(0.0, within(0.01));
+        assertThat(ScalingCurve.exponent(points(1).subList(0, 1), ScalingPoint::part1Nanos)).isNaN();
+    }
+
+    @Test
+    void runsDay() {
+        ScalingCurveResult result = ScalingCurve.run(2, 2, 1000);
+
+        assertThat(result.error()).isNull();
+        assertThat(result.points()).hasSize(2);
+        assertThat(result.points().get(1).scale()).isEqualTo(2 * result.points().get(0).scale());
+
+        // a locale with a decimal comma
+        Locale defaultLocale = Locale.getDefault();
+        StringWriter csv = new StringWriter();
+        try {
+            Locale.setDefault(Locale.GERMANY);
+            ScalingCurve.writeCsv(List.of(result), new PrintWriter(csv, true));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+
+        List<String> lines = csv.toString().lines().toList();
+        assertThat(lines)
+                .hasSize(3)
+                .first().isEqualTo("day,scale,bytes,size,parse_ms,part1_ms,part2_ms,total_ms");
+        assertThat(lines.get(1).split(",")).hasSize(8);
+    }
+}
@@ -0,0 +1,125 @@
+package aoc2023;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnapshotsTest {
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void noSnapshots() {
+        System.clearProperty("snapshot.dir");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 7, 8, 11, 13, 14, 16})
+    void sameResultsFromSnapshot(int dayNr) throws Exception {
+        Path input = tempDir.resolve("input.txt");
+        Generators.generate(dayNr, 30, 1, input);
+        List<String> expected = Days.create(dayNr).solve(Files.readAllLines(input)).results();
+
+        System.setProperty("snapshot.dir", tempDir.resolve("snapshots").toString());
+        Day day = Days.create(dayNr);
+        Path snapshot = Snapshots.fromSystemProperties().orElseThrow().path(day.getClass().getSimpleName(), input);
+
+        // the first run writes the snapshot, the second run reads it
+        assertThat(day.main(input).results()).isEqualTo(expected);
+        assertThat(snapshot).exists();
+        assertThat(Days.create(dayNr).main(input).results()).isEqualTo(expected);
+    }
+
+    @Test
+    void changedInputIsParsedAgain() throws Exception {
+        Path input = tempDir.resolve("input.txt");
+        Generators.generate(14, 20, 1, input);
+        Snapshots snapshots = new Snapshots(tempDir.resolve("snapshots"));
+        Day14 day = new Day14();
+
+        snapshots.save("Day14", input, day.parse(Files.readAllLines(input)), day);
+        assertThat(snapshots.load("Day14", input, day)).isPresent();
+        assertThat(snapshots.load("Day16", input, day)).isEmpty();
+
+        Files.setLastModifiedTime(input, FileTime.from(Instant.now().plusSeconds(10)));
+        assertThat(snapshots.load("Day14", input, day)).isEmpty();
+    }
+
+    @Test
+    void truncatedSnapshotIsRewritten() throws Exception {
+        Path input = tempDir.resolve("input.txt");
+        Generators.generate(13, 20, 1, input);
+        List<String> expected = new Day13().solve(Files.readAllLines(input)).results();
+
+        System.setProperty("snapshot.dir", tempDir.resolve("snapshots").toString());
+        Snapshots snapshots = Snapshots.fromSystemProperties().orElseThrow();
+        Path snapshot = snapshots.path("Day13", input);
+        new Day13().main(input);
+        long size = Files.size(snapshot);
+
+        // cut off the last grid
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 10);
+        }
+        assertThat(snapshots.load("Day13", input, new Day13())).isEmpty();
+
+        assertThat(new Day13().main(input).results()).isEqualTo(expected);
+        assertThat(snapshot).hasSize(size);
+        assertThat(snapshots.load("Day13", input, new Day13())).isPresent();
+    }
+
+    @Test
+    void corruptCountIsStale() throws Exception {
+        Path input = tempDir.resolve("input.txt");
+        Generators.generate(5, 20, 1, input);
+        Snapshots snapshots = new Snapshots(tempDir.resolve("snapshots"));
+        Day05 day = new Day05();
+        snapshots.save("Day05", input, day.parse(Files.readAllLines(input)), day);
+
+        // the header (magic, version, day, input size and time), then the seeds, then the number of category mappers
+        try (FileChannel channel = FileChannel.open(snapshots.path("Day05", input), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            int seedsPosition = 2 * Integer.BYTES + Integer.BYTES + "Day05".length() + 2 * Long.BYTES;
+            int nrSeeds = bytes.getInt(seedsPosition);
+            bytes.putInt(seedsPosition + Integer.BYTES + nrSeeds * Long.BYTES, Integer.MAX_VALUE);
+        }
+
+        assertThat(snapshots.load("Day05", input, day)).isEmpty();
+    }
+
+    @Test
+    void corruptCountIsNotAllocated() {
+        ByteBuffer bytes = ByteBuffer.allocate(2 * Integer.BYTES)
+                .putInt(Integer.MAX_VALUE).putInt(1)
+                .flip();
+
+        assertThatThrownBy(() -> new SnapshotReader(bytes).readInts())
+                .isInstanceOf(BufferUnderflowException.class);
+    }
+
+    @Test
+    void gridWithWrongNumberOfCellsIsRejected() {
+        ByteBuffer bytes = ByteBuffer.allocate(3 * Integer.BYTES + 5)
+                .putInt(2).putInt(3).putInt(5).put(new byte[5])
+                .flip();
+
+        assertThatThrownBy(() -> Grid.readSnapshot(new SnapshotReader(bytes)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,66 @@
+package aoc2023;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SolveBudgetTest {
+    // ZZZ can't be reached from AAA, so the walk never ends
+    private final static List<String> UNREACHABLE = List.of(
+            "LR",
+            "",
+            "AAA = (BBB, BBB)",
+            "BBB = (AAA, AAA)",
+            "ZZZ = (ZZZ, ZZZ)"
+    );
+
+    @Test
+    void deadline() {
+        List<Long> progress = new CopyOnWriteArrayList<>();
+        Day day = new Day08().withBudget(new SolveBudget(200, 20, (nrIterations, elapsedNanos) -> progress.add(nrIterations)));
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> day.solvePart(1, UNREACHABLE.size(), () -> day.doPart1(UNREACHABLE)))
+                .isInstanceOf(CancellationException.class)
+                .hasMessageStartingWith("deadline of 200 ms passed");
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(5_000);
+        assertThat(progress).isNotEmpty().isSorted();
+    }
+
+    @Test
+    void cancel() {
+        SolveBudget budget = new SolveBudget(0, 1000, null);
+        Day day = new Day08().withBudget(budget);
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            executor.schedule(budget::cancel, 100, TimeUnit.MILLISECONDS);
+
+            assertThatThrownBy(() -> day.solvePart(1, UNREACHABLE.size(), () -> day.doPart1(UNREACHABLE)))
+                    .isInstanceOf(CancellationException.class)
+                    .hasMessageStartingWith("cancelled");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void withinBudget() {
+        List<String> input = Generators.generate(14, 20, 1);
+        Day day = new Day14().withBudget(new SolveBudget(60_000, 1000, null));
+
+        assertThat(day.solvePart(2, input.size(), () -> day.doPart2(input))).isEqualTo(new Day14().doPart2(input));
+
+        // outside a solve the checkpoints do nothing
+        SolveBudget.checkpoint();
+    }
+}
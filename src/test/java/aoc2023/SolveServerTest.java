@@ -0,0 +1,77 @@
+package aoc2023;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SolveServerTest {
+    private final static String DAY6_INPUT = """
+            Time:      7  15   30
+            Distance:  9  40  200
+            """;
+
+    private SolveServer solveServer;
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void startServer() throws Exception {
+        solveServer = new SolveServer(0, 2);
+        solveServer.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        solveServer.stop();
+    }
+
+    @Test
+    void solve() throws Exception {
+        HttpResponse<String> response = post("/solve/6", DAY6_INPUT);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).isEqualTo("part 1: 288\npart 2: 71503\n");
+    }
+
+    @Test
+    void solveOnePart() throws Exception {
+        assertThat(post("/solve/6?part=2", DAY6_INPUT).body()).isEqualTo("part 2: 71503\n");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"part=3", "part=x", "part=", "parts=1"})
+    void invalidPart(String query) throws Exception {
+        assertThat(post("/solve/6?" + query, DAY6_INPUT).statusCode()).isEqualTo(400);
+    }
+
+    @Test
+    void unknownDay() throws Exception {
+        assertThat(post("/solve/12", DAY6_INPUT).statusCode()).isEqualTo(404);
+    }
+
+    @Test
+    void stats() throws Exception {
+        post("/solve/6", DAY6_INPUT);
+        post("/solve/6", DAY6_INPUT);
+
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/stats")).GET().build(), HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.body()).startsWith("day 6: count 2,");
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).POST(HttpRequest.BodyPublishers.ofString(body)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + solveServer.port() + path);
+    }
+}
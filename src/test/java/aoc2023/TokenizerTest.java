@@ -0,0 +1,86 @@
+package aoc2023;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenizerTest {
+
+    @Test
+    void numbers() {
+        Tokenizer tokenizer = Tokenizer.of("Card  1: 41 48 -83 | 83 86  6");
+
+        assertThat(tokenizer.skipToken().nextInt()).isEqualTo(1);
+        assertThat(tokenizer.skip(':').nextInts()).containsExactly(41, 48, -83);
+        assertThat(tokenizer.skip('|').nextLongs()).containsExactly(83L, 86L, 6L);
+        assertThat(tokenizer.hasNext()).isFalse();
+    }
+
+    @Test
+    void manyNumbers() {
+        String line = "1 2 3 4 5 6 7 8 9 10 11 12 13 14 15 16 17 18 19 20 12345678901";
+
+        assertThat(Tokenizer.of(line).nextLongs()).hasSize(21).endsWith(12345678901L);
+    }
+
+    @Test
+    void tokens() {
+        Tokenizer tokenizer = Tokenizer.of("AAA = (BBB, 11Z)");
+
+        assertThat(tokenizer.nextToken()).isEqualTo("AAA");
+        assertThat(tokenizer.skip('=').skip('(').nextToken()).isEqualTo("BBB");
+        assertThat(tokenizer.skipIf(';')).isFalse();
+        assertThat(tokenizer.skipIf(',')).isTrue();
+        assertThat(tokenizer.nextToken()).isEqualTo("11Z");
+        assertThat(tokenizer.peek()).isEqualTo(')');
+    }
+
+    @Test
+    void delimited() {
+        Tokenizer tokenizer = Tokenizer.of("rn=1,cm-,qp=3");
+
+        assertThat(tokenizer.nextUntil(',')).isEqualTo("rn=1");
+        assertThat(tokenizer.nextUntil(',')).isEqualTo("cm-");
+        assertThat(tokenizer.nextUntil(',')).isEqualTo("qp=3");
+        assertThat(tokenizer.hasNext()).isFalse();
+    }
+
+    @Test
+    void digitsWithBadKerning() {
+        assertThat(Tokenizer.of("Time:      7  15   30").skipPast(':').nextDigits()).isEqualTo(71530L);
+    }
+
+    @Test
+    void reset() {
+        Tokenizer tokenizer = new Tokenizer();
+
+        assertThat(tokenizer.reset("0 3 6").nextLongs()).containsExactly(0L, 3L, 6L);
+        assertThat(tokenizer.reset("-1 4").nextLongs()).containsExactly(-1L, 4L);
+    }
+
+    @Test
+    void overflow() {
+        assertThat(Tokenizer.of("9223372036854775807 -9223372036854775808").nextLongs())
+                .containsExactly(Long.MAX_VALUE, Long.MIN_VALUE);
+        assertThatThrownBy(() -> Tokenizer.of("9223372036854775808").nextLong())
+                .isInstanceOf(NumberFormatException.class)
+                .hasMessageContaining("at position 0");
+        assertThatThrownBy(() -> Tokenizer.of("1 -99999999999999999999").nextLongs())
+                .isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Tokenizer.of("Time: 92233720 36854775808").skipPast(':').nextDigits())
+                .isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void errors() {
+        assertThatThrownBy(() -> Tokenizer.of("abc").nextInt())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("expected a number at position 0");
+        assertThatThrownBy(() -> Tokenizer.of("a b").skipToken().skip(':'))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("expected ':'");
+        assertThatThrownBy(() -> Tokenizer.of("abc").skipPast(':'))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}